@@ -0,0 +1,38 @@
+package com.example.barointern.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.barointern.BarointernApplication;
+
+// DB 가 필요한 벤치마크용 애플리케이션 컨텍스트 (임베디드 H2, MySQL 모드)
+public final class BenchmarkApplication {
+
+	private BenchmarkApplication() {
+	}
+
+	public static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("spring.datasource.url",
+			"jdbc:h2:mem:benchmark;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+		properties.put("spring.datasource.username", "sa");
+		properties.put("spring.datasource.password", "");
+		properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+		properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+		properties.put("spring.jpa.properties.hibernate.show_sql", "false");
+		properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+		properties.put("spring.jpa.properties.hibernate.use_sql_comments", "false");
+		properties.put("security.password.bcrypt.strength", "4");
+		properties.put("server.port", "0");
+		properties.put("management.server.port", "-1");  // actuator 는 사용하지 않음
+		properties.put("id.node", "0");
+		properties.putAll(overrides);
+
+		return new SpringApplicationBuilder(BarointernApplication.class)
+			.properties(properties)
+			.run();
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.barointern.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.barointern.application.token.AuthorizationEpochs;
+import com.example.barointern.application.token.TokenDenylist;
+import com.example.barointern.domain.entity.RevokedToken;
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.id.TsidGenerator;
+import com.example.barointern.domain.repository.RevokedTokenRepository;
+import com.example.barointern.infrastructure.security.JwtAuthenticationFilter;
+import com.example.barointern.infrastructure.security.JwtTokenAuthenticator;
+import com.example.barointern.infrastructure.security.JwtTokenProvider;
+import com.example.barointern.infrastructure.security.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+// 벤치마크에서 공통으로 사용하는 객체 생성 (스프링 컨텍스트 없이 직접 조립)
+public final class BenchmarkFixtures {
+
+	// application.yml 의 jwt.secretKey 와 동일한 값
+	public static final String SECRET_KEY =
+		"401b09eab3c013d4ca54922bb802bec8fd5318192b0a75f201d8b3727429080fb337591abd3e44453b954555b7a0812e1081c39b740293f765eae731f5a65ed1";
+
+	private BenchmarkFixtures() {
+	}
+
+	// none: 하위 레지스트리가 없는 CompositeMeterRegistry (모든 미터가 no-op, 계측 비용의 기준선)
+	// prometheus: 운영과 같은 PrometheusMeterRegistry (히스토그램 버킷 포함)
+	public static MeterRegistry meterRegistry(String metrics) {
+		return switch (metrics) {
+			case "none" -> new CompositeMeterRegistry();
+			case "prometheus" -> new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+			default -> throw new IllegalArgumentException("알 수 없는 metrics 값: " + metrics);
+		};
+	}
+
+	public static JwtTokenProvider jwtTokenProvider(MeterRegistry meterRegistry) {
+		JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new TsidGenerator(0), meterRegistry);
+		ReflectionTestUtils.setField(jwtTokenProvider, "secretKeyValue", SECRET_KEY);
+		jwtTokenProvider.init();
+		return jwtTokenProvider;
+	}
+
+	public static VerifiedTokenCache verifiedTokenCache(long maximumSize, MeterRegistry meterRegistry) {
+		return new VerifiedTokenCache(maximumSize, meterRegistry);
+	}
+
+	public static JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+		VerifiedTokenCache verifiedTokenCache, MeterRegistry meterRegistry) {
+		return new JwtAuthenticationFilter(new JwtTokenAuthenticator(jwtTokenProvider, verifiedTokenCache,
+			tokenDenylist(), authorizationEpochs(), meterRegistry), -1);
+	}
+
+	// DB 없이 메모리 목록만 사용
+	public static TokenDenylist tokenDenylist() {
+		return new TokenDenylist(new NoOpRevokedTokenRepository(), new SimpleMeterRegistry(),
+			Duration.ofMinutes(30), Duration.ofMinutes(1), 1024, Duration.ofSeconds(5));
+	}
+
+	// DB 없이 빈 epoch 맵만 사용 (load/refresh 를 호출하지 않음)
+	public static AuthorizationEpochs authorizationEpochs() {
+		return new AuthorizationEpochs(null, new SimpleMeterRegistry(), 1024, Duration.ofSeconds(5));
+	}
+
+	public static User user() {
+		return User.builder()
+			.id(1L)
+			.username("JIN HO")
+			.password("$2a$10$abcdefghijklmnopqrstuuFh8n0lIxNqDcTzl6IlkYQ5jHbG7c1W2")
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build();
+	}
+
+	private static class NoOpRevokedTokenRepository implements RevokedTokenRepository {
+
+		@Override
+		public RevokedToken save(RevokedToken revokedToken) {
+			return revokedToken;
+		}
+
+		@Override
+		public List<RevokedToken> findAllByExpiresAtAfter(Instant now) {
+			return List.of();
+		}
+
+		@Override
+		public List<RevokedToken> findAllByRevokedAtAfter(Instant since) {
+			return List.of();
+		}
+
+		@Override
+		public int deleteExpired(Instant now) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.barointern.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.barointern.infrastructure.security.JwtAuthenticationFilter;
+import com.example.barointern.infrastructure.security.JwtTokenProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+
+// JwtAuthenticationFilter 전체 경로 (mock 서블릿 객체 사용)
+// cacheEnabled=false 이면 매 요청 인증 객체를 새로 만들므로 gc.alloc.rate.norm 으로 할당량을 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	// valid: 정상 토큰, invalid: 서명이 틀린 토큰, missing: Authorization 헤더 없음
+	@Param({"valid", "invalid", "missing"})
+	public String tokenType;
+
+	// 검증 결과 캐시 사용 여부
+	@Param({"true", "false"})
+	public boolean cacheEnabled;
+
+	// protected: 인증이 필요한 경로, public: permitAll 경로 (토큰이 있어도 검증하지 않고 통과)
+	@Param({"protected", "public"})
+	public String route;
+
+	// 계측 비용 비교 (none: no-op 미터, prometheus: 운영과 같은 레지스트리)
+	@Param({"none", "prometheus"})
+	public String metrics;
+
+	private JwtAuthenticationFilter filter;
+	private String authorizationHeader;
+
+	@Setup
+	public void setUp() {
+		MeterRegistry meterRegistry = BenchmarkFixtures.meterRegistry(metrics);
+		JwtTokenProvider jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider(meterRegistry);
+		filter = BenchmarkFixtures.jwtAuthenticationFilter(jwtTokenProvider,
+			BenchmarkFixtures.verifiedTokenCache(cacheEnabled ? 10_000 : 0, meterRegistry), meterRegistry);
+
+		String token = jwtTokenProvider.createJwtToken(BenchmarkFixtures.user());
+		authorizationHeader = switch (tokenType) {
+			case "valid" -> "Bearer " + token;
+			case "invalid" -> "Bearer " + token.substring(0, token.length() - 4) + "AAAA";
+			default -> null;
+		};
+	}
+
+	@State(Scope.Thread)
+	public static class Exchange {
+		MockHttpServletRequest request;
+
+		@Setup
+		public void setUp(JwtAuthenticationFilterBenchmark benchmark) {
+			String path = benchmark.route.equals("public") ? "/login" : "/admin/users/1/roles";
+			request = new MockHttpServletRequest("GET", path);
+			request.setServletPath(path);  // 요청 매처는 servletPath 기준으로 비교
+			if (benchmark.authorizationHeader != null) {
+				request.addHeader("Authorization", benchmark.authorizationHeader);
+			}
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public int doFilter(Exchange exchange) throws ServletException, IOException {
+		return runFilter(exchange);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public int doFilterContended(Exchange exchange) throws ServletException, IOException {
+		return runFilter(exchange);
+	}
+
+	private int runFilter(Exchange exchange) throws ServletException, IOException {
+		// OncePerRequestFilter 의 "이미 처리됨" 속성을 지워 요청 객체를 재사용
+		exchange.request.clearAttributes();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(exchange.request, response, new MockFilterChain());
+			return response.getStatus();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.barointern.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.infrastructure.security.JwtTokenProvider;
+import com.example.barointern.infrastructure.security.TokenVerification;
+
+import io.jsonwebtoken.Claims;
+
+// JWT 발급/파싱 비용 (단일 스레드 / 경합)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+	// 계측 비용 비교 (none: no-op 타이머, prometheus: jwt.create / jwt.parse 기록)
+	@Param({"none", "prometheus"})
+	public String metrics;
+
+	private JwtTokenProvider jwtTokenProvider;
+	private User user;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider(BenchmarkFixtures.meterRegistry(metrics));
+		user = BenchmarkFixtures.user();
+		token = jwtTokenProvider.createJwtToken(user);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String createJwtToken() {
+		return jwtTokenProvider.createJwtToken(user);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String createJwtTokenContended() {
+		return jwtTokenProvider.createJwtToken(user);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public TokenVerification verify() {
+		return jwtTokenProvider.verify(token);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public TokenVerification verifyContended() {
+		return jwtTokenProvider.verify(token);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Claims getClaimsFromToken() {
+		return jwtTokenProvider.getClaimsFromToken(token);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Claims getClaimsFromTokenContended() {
+		return jwtTokenProvider.getClaimsFromToken(token);
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.barointern.benchmark;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.repository.UserRepository;
+import com.example.barointern.infrastructure.repository.UserJpaRepository;
+
+// 로그인 시 사용자 조회: 엔티티 전체 로딩 vs 읽기 전용 projection
+// gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 로그인 1회당 할당량을 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class LoginLookupBenchmark {
+
+	private static final String USERNAME = "JIN HO";
+
+	private ConfigurableApplicationContext context;
+
+	// 캐시 데코레이터를 거치지 않도록 JPA 저장소를 도메인 인터페이스 타입으로 직접 사용
+	private UserRepository userRepository;
+
+	@Setup
+	public void setUp() {
+		context = BenchmarkApplication.start(Map.of());
+		userRepository = context.getBean(UserJpaRepository.class);
+		userRepository.save(User.builder()
+			.username(USERNAME)
+			.password("{bcrypt}$2a$04$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark")
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build());
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Optional<User> findEntity() {
+		return userRepository.findByUsername(USERNAME);
+	}
+
+	@Benchmark
+	public Optional<UserCredentials> findProjection() {
+		return userRepository.findCredentialsByUsername(USERNAME);
+	}
+}
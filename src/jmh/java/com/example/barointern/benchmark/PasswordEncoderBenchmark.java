@@ -0,0 +1,59 @@
+package com.example.barointern.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// BCrypt cost factor 별 비용 (로그인 시 matches, 회원가입 시 encode)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordEncoderBenchmark {
+
+	private static final String RAW_PASSWORD = "12341234";
+
+	@Param({"4", "8", "10", "12"})
+	public int strength;
+
+	private BCryptPasswordEncoder passwordEncoder;
+	private String encodedPassword;
+
+	@Setup
+	public void setUp() {
+		passwordEncoder = new BCryptPasswordEncoder(strength);
+		encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public boolean matches() {
+		return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public boolean matchesContended() {
+		return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String encode() {
+		return passwordEncoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String encodeContended() {
+		return passwordEncoder.encode(RAW_PASSWORD);
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.barointern.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.example.barointern.application.dto.ErrorResponse;
+import com.example.barointern.application.dto.UserResponse;
+import com.example.barointern.application.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 응답 DTO 의 Jackson 직렬화 비용 (에러 응답은 ErrorCode 의 미리 인코딩된 본문과 비교)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseSerializationBenchmark {
+
+	private ObjectMapper objectMapper;
+	private UserResponse userResponse;
+	private ErrorResponse errorResponse;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		userResponse = new UserResponse(BenchmarkFixtures.user());
+		errorResponse = new ErrorResponse("INVALID_TOKEN", "유효하지 않은 인증 토큰입니다.");
+	}
+
+	@Benchmark
+	@Threads(1)
+	public byte[] userResponse() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(userResponse);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public byte[] userResponseContended() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(userResponse);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public byte[] errorResponse() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(errorResponse);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public byte[] errorResponseContended() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(errorResponse);
+	}
+
+	// 필터/핸들러가 실제로 사용하는 경로 (직렬화 없이 공유 배열 반환)
+	@Benchmark
+	@Threads(1)
+	public byte[] preEncodedErrorResponse() {
+		return ErrorCode.INVALID_TOKEN.body();
+	}
+}
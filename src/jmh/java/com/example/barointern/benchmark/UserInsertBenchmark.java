@@ -0,0 +1,79 @@
+package com.example.barointern.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.infrastructure.repository.UserJpaRepository;
+
+// 한 트랜잭션에서 여러 명을 저장할 때의 INSERT 비용
+// batchSize=1 은 IDENTITY 전략처럼 INSERT 를 한 건씩 실행하는 경우(변경 전),
+// batchSize=50 은 TSID 로 ID 를 미리 생성해 JDBC batch 를 쓰는 경우(변경 후)에 해당한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class UserInsertBenchmark {
+
+	private static final int USERS_PER_TRANSACTION = 100;
+
+	@Param({"1", "50"})
+	public int batchSize;
+
+	private ConfigurableApplicationContext context;
+	private UserJpaRepository userJpaRepository;
+	private TransactionTemplate transactionTemplate;
+	private final AtomicLong sequence = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start(Map.of(
+			"spring.jpa.properties.hibernate.jdbc.batch_size", String.valueOf(batchSize)));
+		userJpaRepository = context.getBean(UserJpaRepository.class);
+		transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+	}
+
+	@Setup(Level.Iteration)
+	public void cleanDatabase() {
+		userJpaRepository.deleteAllInBatch();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public int saveAll() {
+		List<User> users = new ArrayList<>(USERS_PER_TRANSACTION);
+		for (int i = 0; i < USERS_PER_TRANSACTION; i++) {
+			long n = sequence.incrementAndGet();
+			users.add(User.builder()
+				.username("user" + n)
+				.password("{bcrypt}$2a$04$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark")
+				.nickname("nick" + n)
+				.role(Role.USER)
+				.build());
+		}
+		return transactionTemplate.execute(status -> userJpaRepository.saveAll(users).size());
+	}
+}
@@ -0,0 +1,141 @@
+package com.example.barointern.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.repository.UserRepository;
+
+// 플랫폼 스레드(Tomcat 스레드 풀) vs 가상 스레드 요청 처리 비교
+// 한 번의 호출마다 concurrency 개의 요청을 동시에 보내고 모두 끝날 때까지 기다린다.
+// 요청은 DB 조회가 일어나는 GET /availability (이미 가입된 아이디 → Bloom filter 통과 → exists 쿼리)
+// 처리량과 함께 보조 지표로 반복(iteration) 동안의 최대 힙 사용량(MB)과 최대 플랫폼 스레드 수를 출력한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class VirtualThreadLoadBenchmark {
+
+	private static final String USERNAME = "JIN HO";
+
+	@Param({"false", "true"})
+	public boolean virtualThreads;
+
+	@Param({"100", "1000"})
+	public int concurrency;
+
+	private ConfigurableApplicationContext context;
+	private HttpClient httpClient;
+	private HttpRequest request;
+
+	// 부하 발생 측은 항상 가상 스레드를 사용해 서버 쪽 차이만 드러나도록 한다.
+	private ExecutorService clients;
+
+	@Setup
+	public void setUp() {
+		context = BenchmarkApplication.start(Map.of(
+			"spring.threads.virtual.enabled", virtualThreads,
+			"server.tomcat.threads.max", 200,
+			"spring.datasource.hikari.maximum-pool-size", 10,
+			"user-cache.enabled", false));
+		context.getBean(UserRepository.class).save(User.builder()
+			.username(USERNAME)
+			.password("{bcrypt}$2a$04$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark")
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build());
+
+		String port = context.getEnvironment().getProperty("local.server.port");
+		httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		request = HttpRequest.newBuilder(
+			URI.create("http://localhost:" + port + "/availability?username=" + USERNAME.replace(" ", "%20"))).build();
+		clients = Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	@TearDown
+	public void tearDown() {
+		clients.shutdownNow();
+		httpClient.close();
+		context.close();
+	}
+
+	@Benchmark
+	public int burst(LoadMetrics metrics) throws Exception {
+		List<Future<Integer>> responses = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			responses.add(clients.submit(() -> httpClient.send(request, HttpResponse.BodyHandlers.discarding())
+				.statusCode()));
+		}
+		int ok = 0;
+		for (Future<Integer> response : responses) {
+			if (response.get() == 200) {
+				ok++;
+			}
+		}
+		metrics.sample();
+		return ok;
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class LoadMetrics {
+
+		private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+			.filter(pool -> pool.getType() == MemoryType.HEAP)
+			.toList();
+		private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+		// 반복(iteration) 동안의 최대값 (EVENTS 카운터는 반복이 끝날 때의 값을 그대로 출력)
+		public long peakHeapMb;
+		public long peakPlatformThreads;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+			threads.resetPeakThreadCount();
+			peakHeapMb = 0;
+			peakPlatformThreads = 0;
+		}
+
+		void sample() {
+			long peakHeap = 0;
+			for (MemoryPoolMXBean pool : heapPools) {
+				peakHeap += pool.getPeakUsage().getUsed();
+			}
+			peakHeapMb = peakHeap / (1024 * 1024);
+			peakPlatformThreads = threads.getPeakThreadCount();
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.example.barointern.loadtest;
+
+// 부하 테스트 요청 종류 (load-test.mix 의 키)
+public enum LoadOperation {
+	SIGNUP,
+	LOGIN,
+	AUTHENTICATED,
+	ADMIN
+}
@@ -0,0 +1,25 @@
+package com.example.barointern.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+
+// load-test.* 설정 (src/loadTest/resources/config/application.yml)
+public record LoadTestProperties(
+	int clients,
+	Duration warmup,
+	Duration duration,
+	int seedUsers,
+	int admins,
+	Map<LoadOperation, Integer> mix,
+	Budget budget
+) {
+
+	public record Budget(
+		double minThroughput,
+		double maxErrorRate,
+		double maxGcTimeRatio,
+		Map<LoadOperation, Duration> p99,
+		Map<LoadOperation, Duration> p999
+	) {
+	}
+}
@@ -0,0 +1,170 @@
+package com.example.barointern.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+// 요청 종류별 지연 시간 분포 (HdrHistogram, µs 단위) + 처리량 + GC 통계
+final class LoadTestReport {
+
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	private final Map<LoadOperation, Histogram> latencies;
+	private final long[] errors;
+	private final Duration elapsed;
+	private final GcStats gc;
+
+	private LoadTestReport(Map<LoadOperation, Histogram> latencies, long[] errors, Duration elapsed, GcStats gc) {
+		this.latencies = latencies;
+		this.errors = errors;
+		this.elapsed = elapsed;
+		this.gc = gc;
+	}
+
+	// 클라이언트별 기록을 합친다. (측정 중에는 스레드 간 공유 없이 각자 기록)
+	static LoadTestReport merge(List<Recorder> recorders, Duration elapsed, GcStats gc) {
+		Map<LoadOperation, Histogram> latencies = newHistograms();
+		long[] errors = new long[LoadOperation.values().length];
+		for (Recorder recorder : recorders) {
+			for (LoadOperation operation : LoadOperation.values()) {
+				latencies.get(operation).add(recorder.latencies.get(operation));
+				errors[operation.ordinal()] += recorder.errors[operation.ordinal()];
+			}
+		}
+		return new LoadTestReport(latencies, errors, elapsed, gc);
+	}
+
+	long totalRequests() {
+		return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+	}
+
+	long totalErrors() {
+		long total = 0;
+		for (long error : errors) {
+			total += error;
+		}
+		return total;
+	}
+
+	double throughput() {
+		return totalRequests() / (elapsed.toNanos() / 1e9);
+	}
+
+	double errorRate() {
+		long total = totalRequests();
+		return total == 0 ? 0 : (double)totalErrors() / total;
+	}
+
+	double gcTimeRatio() {
+		return gc.collectionMillis() / (double)elapsed.toMillis();
+	}
+
+	// 예산을 넘은 항목 (비어 있으면 통과)
+	List<String> violations(LoadTestProperties.Budget budget) {
+		List<String> violations = new ArrayList<>();
+		if (throughput() < budget.minThroughput()) {
+			violations.add(String.format("처리량 %.1f req/s < %.1f req/s", throughput(), budget.minThroughput()));
+		}
+		if (errorRate() > budget.maxErrorRate()) {
+			violations.add(String.format("오류율 %.4f > %.4f", errorRate(), budget.maxErrorRate()));
+		}
+		if (gcTimeRatio() > budget.maxGcTimeRatio()) {
+			violations.add(String.format("GC 시간 비율 %.3f > %.3f", gcTimeRatio(), budget.maxGcTimeRatio()));
+		}
+		checkPercentile(violations, "p99", 99.0, budget.p99());
+		checkPercentile(violations, "p999", 99.9, budget.p999());
+		return violations;
+	}
+
+	private void checkPercentile(List<String> violations, String label, double percentile,
+		Map<LoadOperation, Duration> limits) {
+		if (limits == null) {
+			return;
+		}
+		limits.forEach((operation, limit) -> {
+			Histogram histogram = latencies.get(operation);
+			if (histogram.getTotalCount() == 0) {
+				return;  // 비율이 0 인 요청 종류
+			}
+			long micros = histogram.getValueAtPercentile(percentile);
+			if (micros > limit.toNanos() / 1_000) {
+				violations.add(String.format("%s %s %.1fms > %dms", operation, label, micros / 1e3, limit.toMillis()));
+			}
+		});
+	}
+
+	String format(int clients) {
+		StringBuilder out = new StringBuilder();
+		out.append(String.format("%n=== 부하 테스트 결과 (clients=%d, %ds) ===%n", clients, elapsed.toSeconds()));
+		out.append(String.format("%-14s %9s %7s %9s %9s %9s %9s%n",
+			"operation", "count", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+		for (LoadOperation operation : LoadOperation.values()) {
+			Histogram histogram = latencies.get(operation);
+			out.append(String.format("%-14s %9d %7d %9.2f %9.2f %9.2f %9.2f%n",
+				operation, histogram.getTotalCount(), errors[operation.ordinal()],
+				histogram.getValueAtPercentile(50.0) / 1e3,
+				histogram.getValueAtPercentile(99.0) / 1e3,
+				histogram.getValueAtPercentile(99.9) / 1e3,
+				histogram.getMaxValue() / 1e3));
+		}
+		out.append(String.format("전체: %d 요청, %.1f req/s, 오류율 %.4f%n", totalRequests(), throughput(), errorRate()));
+		// 서버와 클라이언트가 같은 JVM 이므로 GC/할당량은 둘을 합친 값
+		out.append(String.format("GC: %d회, %dms (시간 비율 %.3f), 할당 %.1f MB (%.1f MB/s)%n",
+			gc.collections(), gc.collectionMillis(), gcTimeRatio(),
+			gc.allocatedBytes() / 1e6, gc.allocatedBytes() / 1e6 / (elapsed.toNanos() / 1e9)));
+		return out.toString();
+	}
+
+	private static Map<LoadOperation, Histogram> newHistograms() {
+		Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+		for (LoadOperation operation : LoadOperation.values()) {
+			histograms.put(operation, new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+		}
+		return histograms;
+	}
+
+	// 클라이언트 스레드 하나가 쓰는 기록기 (스레드 안전하지 않음)
+	static final class Recorder {
+
+		private final Map<LoadOperation, Histogram> latencies = newHistograms();
+		private final long[] errors = new long[LoadOperation.values().length];
+
+		void record(LoadOperation operation, long elapsedNanos, boolean expected) {
+			long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+			latencies.get(operation).recordValue(micros);
+			if (!expected) {
+				errors[operation.ordinal()]++;
+			}
+		}
+	}
+
+	// GC 횟수/시간과 누적 할당량 (측정 전후 차이로 사용)
+	record GcStats(long collections, long collectionMillis, long allocatedBytes) {
+
+		static GcStats capture() {
+			long collections = 0;
+			long collectionMillis = 0;
+			for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+				collections += Math.max(0, collector.getCollectionCount());
+				collectionMillis += Math.max(0, collector.getCollectionTime());
+			}
+			long allocatedBytes = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+				? Math.max(0, threads.getTotalThreadAllocatedBytes())
+				: 0;
+			return new GcStats(collections, collectionMillis, allocatedBytes);
+		}
+
+		GcStats since(GcStats before) {
+			return new GcStats(collections - before.collections, collectionMillis - before.collectionMillis,
+				allocatedBytes - before.allocatedBytes);
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package com.example.barointern.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.repository.UserRepository;
+import com.example.barointern.loadtest.LoadTestReport.GcStats;
+import com.example.barointern.loadtest.LoadTestReport.Recorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 전체 애플리케이션 (내장 Tomcat + H2 MySQL 모드) 에 실제 HTTP 요청으로 부하를 준다.
+// 클라이언트마다 응답을 받으면 바로 다음 요청을 보내며 (closed loop), 예열 후 측정 구간의 결과만 예산과 비교한다.
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserApiLoadTest {
+
+	private static final String PASSWORD = "load-test-password";
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private Environment environment;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+
+	private final AtomicLong signUpSequence = new AtomicLong();
+	private final List<String> usernames = new ArrayList<>();  // 로그인 대상
+	private final List<Long> userIds = new ArrayList<>();  // 권한 부여 대상
+	private final List<String> adminTokens = new ArrayList<>();
+
+	@Test
+	void 부하_테스트_결과가_예산_이내() throws Exception {
+		LoadTestProperties properties = Binder.get(environment)
+			.bind("load-test", LoadTestProperties.class)
+			.get();
+		LoadOperation[] operations = weightedOperations(properties.mix());
+
+		seed(properties);
+
+		run(properties.clients(), properties.warmup(), operations);  // 예열 결과는 버림
+		LoadTestReport report = run(properties.clients(), properties.duration(), operations);
+
+		log.info("부하 테스트 결과\n{}", report.format(properties.clients()));
+		assertThat(report.violations(properties.budget()))
+			.as("부하 테스트 예산 초과")
+			.isEmpty();
+	}
+
+	// 로그인/권한 부여 대상 사용자와 관리자 토큰 준비 (BCrypt 는 한 번만 실행)
+	private void seed(LoadTestProperties properties) throws Exception {
+		String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+		for (int i = 0; i < properties.seedUsers(); i++) {
+			User user = userRepository.save(newUser("load-user-" + i, encodedPassword, Role.USER));
+			usernames.add(user.getUsername());
+			userIds.add(user.getId());
+		}
+
+		for (int i = 0; i < properties.admins(); i++) {
+			User admin = userRepository.save(newUser("load-admin-" + i, encodedPassword, Role.ADMIN));
+			HttpResponse<String> response = httpClient.send(login(admin.getUsername()),
+				HttpResponse.BodyHandlers.ofString());
+			assertThat(response.statusCode()).isEqualTo(200);
+			adminTokens.add(objectMapper.readTree(response.body()).get("token").asText());
+		}
+	}
+
+	private LoadTestReport run(int clients, Duration duration, LoadOperation[] operations) throws Exception {
+		List<Future<Recorder>> futures = new ArrayList<>(clients);
+
+		GcStats before = GcStats.capture();
+		long startedAt = System.nanoTime();
+		long deadline = startedAt + duration.toNanos();
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(clients)) {
+			for (int i = 0; i < clients; i++) {
+				futures.add(executor.submit(() -> runClient(deadline, operations)));
+			}
+
+			List<Recorder> recorders = new ArrayList<>(clients);
+			for (Future<Recorder> future : futures) {
+				recorders.add(future.get());
+			}
+
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+			return LoadTestReport.merge(recorders, elapsed, GcStats.capture().since(before));
+		}
+	}
+
+	private Recorder runClient(long deadline, LoadOperation[] operations) throws InterruptedException {
+		Recorder recorder = new Recorder();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		while (System.nanoTime() < deadline) {
+			LoadOperation operation = operations[random.nextInt(operations.length)];
+			HttpRequest request = request(operation, random);
+
+			long startedAt = System.nanoTime();
+			boolean expected;
+			try {
+				expected = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+			} catch (IOException e) {
+				expected = false;
+			}
+			recorder.record(operation, System.nanoTime() - startedAt, expected);
+		}
+		return recorder;
+	}
+
+	private HttpRequest request(LoadOperation operation, ThreadLocalRandom random) {
+		return switch (operation) {
+			case SIGNUP -> {
+				long sequence = signUpSequence.incrementAndGet();
+				yield json("/signup", String.format("{\"username\":\"load-signup-%d\",\"password\":\"%s\","
+					+ "\"nickname\":\"load-signup-nick-%d\"}", sequence, PASSWORD, sequence));
+			}
+			case LOGIN -> login(usernames.get(random.nextInt(usernames.size())));
+			case AUTHENTICATED -> authorized("/admin/users?size=20", random)
+				.GET()
+				.build();
+			case ADMIN -> authorized("/admin/users/" + userIds.get(random.nextInt(userIds.size())) + "/roles", random)
+				.method("PATCH", HttpRequest.BodyPublishers.noBody())
+				.build();
+		};
+	}
+
+	private HttpRequest login(String username) {
+		return json("/login", String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, PASSWORD));
+	}
+
+	private HttpRequest json(String path, String body) {
+		return HttpRequest.newBuilder(uri(path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+	}
+
+	private HttpRequest.Builder authorized(String path, ThreadLocalRandom random) {
+		return HttpRequest.newBuilder(uri(path))
+			.header("Authorization", "Bearer " + adminTokens.get(random.nextInt(adminTokens.size())));
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private static User newUser(String username, String encodedPassword, Role role) {
+		return User.builder()
+			.username(username)
+			.password(encodedPassword)
+			.nickname(username + "-nick")
+			.role(role)
+			.build();
+	}
+
+	// 비율만큼 반복해 넣은 배열 (무작위 index 하나로 요청 종류 선택)
+	private static LoadOperation[] weightedOperations(Map<LoadOperation, Integer> mix) {
+		List<LoadOperation> operations = new ArrayList<>();
+		mix.forEach((operation, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				operations.add(operation);
+			}
+		});
+		if (operations.isEmpty()) {
+			throw new IllegalStateException("load-test.mix 의 비율이 모두 0 입니다.");
+		}
+		return operations.toArray(LoadOperation[]::new);
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.barointern.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.OutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.barointern.application.dto.UserExportFormat;
+import com.example.barointern.application.service.UserExportService;
+
+// 파일 기반 임베디드 DB(H2)에 100만 명을 넣고 내보내는 동안 힙 사용량이 늘지 않는지 확인
+// (메모리 DB 는 데이터 자체가 힙에 올라가므로 파일 DB 를 사용)
+// 100만 행을 넣는 데 오래 걸리므로 단위 테스트(test)가 아닌 loadTest 에서 실행한다.
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:file:./build/h2/user-export;MODE=MySQL;NON_KEYWORDS=USER",
+	"user-export.fetch-size=1000"
+})
+class UserExportLoadTest {
+
+	private static final int USERS = 1_000_000;
+	private static final long MAX_HEAP_GROWTH = 32L * 1024 * 1024;
+
+	@Autowired
+	private UserExportService userExportService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void insertUsers() {
+		jdbcTemplate.update("delete from user");
+		jdbcTemplate.update("insert into user (id, username, password, nickname, role, auth_epoch)"
+			+ " select x, concat('user', x), 'password', concat('nick', x), 'USER', 0"
+			+ " from system_range(1, " + USERS + ")");
+	}
+
+	@AfterEach
+	void cleanDatabase() {
+		jdbcTemplate.update("delete from user");
+	}
+
+	@Test
+	void 백만_명_내보내기_중_힙_사용량_일정() throws Exception {
+		LineCountingOutputStream output = new LineCountingOutputStream();
+
+		long exported = userExportService.export(output, UserExportFormat.NDJSON, false);
+
+		assertThat(exported).isEqualTo(USERS);
+		assertThat(output.lines).isEqualTo(USERS);
+		// 처음 측정값과 마지막 측정값 차이 (행 수에 비례해 늘어나면 실패)
+		assertThat(output.lastHeap - output.firstHeap).isLessThan(MAX_HEAP_GROWTH);
+	}
+
+	// 줄 수를 세고, 10만 줄마다 GC 후 사용 중인 힙을 측정하는 출력 스트림 (내용은 버림)
+	private static class LineCountingOutputStream extends OutputStream {
+
+		long lines;
+		long firstHeap = -1;
+		long lastHeap;
+
+		@Override
+		public void write(int b) {
+			count((byte)b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			for (int i = off; i < off + len; i++) {
+				count(b[i]);
+			}
+		}
+
+		private void count(byte b) {
+			if (b != '\n') {
+				return;
+			}
+			lines++;
+			if (lines % 100_000 == 0) {
+				System.gc();
+				Runtime runtime = Runtime.getRuntime();
+				long used = runtime.totalMemory() - runtime.freeMemory();
+				if (firstHeap < 0) {
+					firstHeap = used;
+				}
+				lastHeap = used;
+			}
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.barointern.application.availability;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 문자열용 동시성 Bloom filter
+// mightContain 이 false 이면 "확실히 없음", true 이면 "있을 수도 있음" (오탐 가능)
+// 비트 배열은 AtomicLongArray 로 관리하고 비트 설정은 CAS 로 처리한다. (락 없음)
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashFunctions;
+	private final LongAdder insertions = new LongAdder();
+
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions 는 0보다 커야 합니다.");
+		}
+		if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("falsePositiveProbability 는 0과 1 사이여야 합니다.");
+		}
+		// m = -n ln(p) / (ln 2)^2, k = (m / n) ln 2
+		long optimalBits = (long)Math.ceil(
+			-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		int words = (int)Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long)words * 64;
+		this.hashFunctions = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+		long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+		for (int i = 0; i < hashFunctions; i++) {
+			setBit(index(hash1, hash2, i));
+		}
+		insertions.increment();
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+		long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+		for (int i = 0; i < hashFunctions; i++) {
+			long index = index(hash1, hash2, i);
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 현재까지 넣은 개수 기준 예상 오탐률: (1 - e^(-kn/m))^k
+	public double expectedFalsePositiveProbability() {
+		double fill = 1 - Math.exp(-(double)hashFunctions * insertions.sum() / bitSize);
+		return Math.pow(fill, hashFunctions);
+	}
+
+	public long approximateInsertions() {
+		return insertions.sum();
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	public long memoryBytes() {
+		return bitSize / 8;
+	}
+
+	public int hashFunctions() {
+		return hashFunctions;
+	}
+
+	private void setBit(long index) {
+		int word = (int)(index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+
+	// double hashing: h1 + i * h2
+	private long index(long hash1, long hash2, int i) {
+		long combined = hash1 + i * hash2;
+		return (combined & Long.MAX_VALUE) % bitSize;
+	}
+
+	private static long hash(String value, long seed) {
+		long h = seed;
+		for (int i = 0; i < value.length(); i++) {
+			h ^= value.charAt(i);
+			h *= 0x100000001B3L;
+		}
+		return mix(h ^ value.length());
+	}
+
+	// MurmurHash3 fmix64
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -0,0 +1,122 @@
+package com.example.barointern.application.availability;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserNames;
+import com.example.barointern.domain.entity.UserSummary;
+import com.example.barointern.domain.id.TsidGenerator;
+import com.example.barointern.domain.repository.UserRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 이미 사용 중인 username / nickname 의 Bloom filter
+// 시작 시 UserRepository 에서 전체 이름을 읽어 채우고, 가입할 때마다 추가한다.
+// 다른 서버에서 가입한 이름은 refresh-interval 마다 마지막 조회 시각 이후의 ID(TSID 는 시간 순)만 읽어 추가한다.
+// 적재가 끝나기 전에는 항상 "있을 수도 있음"을 반환해 저장소 조회로 넘긴다.
+// DB 와 같은 기준(대소문자, 끝 공백 무시)으로 정규화한 이름을 넣어야 "JIN HO" 가입 후 "jin ho" 조회가 누락되지 않는다.
+@Slf4j
+@Component
+public class TakenNameFilter {
+
+	private static final int REFRESH_BATCH_SIZE = 1000;
+
+	private final UserRepository userRepository;
+	private final BloomFilter usernames;
+	private final BloomFilter nicknames;
+	private final Duration clockSkew;
+	private volatile boolean loaded;
+	private volatile Instant lastRefreshedAt;  // load() 이후에는 refresh() 에서만 변경
+
+	public TakenNameFilter(UserRepository userRepository,
+		MeterRegistry meterRegistry,
+		@Value("${availability.bloom.expected-insertions:1000000}") long expectedInsertions,
+		@Value("${availability.bloom.false-positive-probability:0.01}") double falsePositiveProbability,
+		@Value("${availability.bloom.clock-skew:5s}") Duration clockSkew) {
+		this.userRepository = userRepository;
+		this.clockSkew = clockSkew;
+		this.usernames = new BloomFilter(expectedInsertions, falsePositiveProbability);
+		this.nicknames = new BloomFilter(expectedInsertions, falsePositiveProbability);
+
+		registerMetrics(meterRegistry, "username", usernames, falsePositiveProbability);
+		registerMetrics(meterRegistry, "nickname", nicknames, falsePositiveProbability);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		Instant startedAt = Instant.now();
+		try (Stream<String> names = userRepository.streamAllUsernames()) {
+			names.forEach(name -> usernames.put(UserNames.uniqueKey(name)));
+		}
+		try (Stream<String> names = userRepository.streamAllNicknames()) {
+			names.forEach(name -> nicknames.put(UserNames.uniqueKey(name)));
+		}
+		lastRefreshedAt = startedAt;
+		loaded = true;
+		log.info("사용 중인 이름 필터 적재 완료 (username {}개, nickname {}개)",
+			usernames.approximateInsertions(), nicknames.approximateInsertions());
+	}
+
+	// 마지막 조회 이후 생성된 사용자만 id 순으로 나눠 읽어 추가 (서버 간 시계 차이와 커밋 지연만큼 겹쳐서 조회)
+	@Scheduled(fixedDelayString = "${availability.bloom.refresh-interval:5s}")
+	public void refresh() {
+		if (!loaded) {
+			return;
+		}
+		Instant startedAt = Instant.now();
+		long afterId = TsidGenerator.minIdAt(lastRefreshedAt.minus(clockSkew)) - 1;
+		List<UserSummary> page;
+		do {
+			page = userRepository.findSummaries(afterId, null, REFRESH_BATCH_SIZE);
+			for (UserSummary user : page) {
+				usernames.put(UserNames.uniqueKey(user.username()));
+				nicknames.put(UserNames.uniqueKey(user.nickname()));
+				afterId = user.id();
+			}
+		} while (page.size() == REFRESH_BATCH_SIZE);
+		lastRefreshedAt = startedAt;
+	}
+
+	public boolean mightContainUsername(String username) {
+		return !loaded || usernames.mightContain(UserNames.uniqueKey(username));
+	}
+
+	public boolean mightContainNickname(String nickname) {
+		return !loaded || nicknames.mightContain(UserNames.uniqueKey(nickname));
+	}
+
+	public void add(User user) {
+		usernames.put(UserNames.uniqueKey(user.getUsername()));
+		nicknames.put(UserNames.uniqueKey(user.getNickname()));
+	}
+
+	private static void registerMetrics(MeterRegistry meterRegistry, String name, BloomFilter filter,
+		double configuredProbability) {
+		Gauge.builder("availability.bloom.fpp.configured", () -> configuredProbability)
+			.tag("name", name)
+			.register(meterRegistry);
+		Gauge.builder("availability.bloom.fpp.expected", filter, BloomFilter::expectedFalsePositiveProbability)
+			.tag("name", name)
+			.register(meterRegistry);
+		Gauge.builder("availability.bloom.insertions", filter, BloomFilter::approximateInsertions)
+			.tag("name", name)
+			.register(meterRegistry);
+		Gauge.builder("availability.bloom.memory", filter, BloomFilter::memoryBytes)
+			.tag("name", name)
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+}
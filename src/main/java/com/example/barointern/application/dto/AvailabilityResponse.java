@@ -0,0 +1,22 @@
+package com.example.barointern.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "아이디/닉네임 사용 가능 여부 DTO")
+public class AvailabilityResponse {
+
+	@Schema(description = "아이디 사용 가능 여부 (요청한 경우에만 포함)")
+	private Boolean usernameAvailable;
+
+	@Schema(description = "닉네임 사용 가능 여부 (요청한 경우에만 포함)")
+	private Boolean nicknameAvailable;
+}
@@ -12,4 +12,5 @@ import lombok.ToString;
 public class LoginCommand {
 	private String username;
 	private String password;
+	private String clientAddress; // 요청 IP (로그인 시도 제한에 사용)
 }
@@ -0,0 +1,19 @@
+package com.example.barointern.application.dto;
+
+import java.util.List;
+
+import com.example.barointern.domain.entity.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoleGrantCommand {
+	private List<Long> userIds;
+	private Role role;
+}
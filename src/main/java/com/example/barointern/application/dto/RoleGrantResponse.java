@@ -0,0 +1,60 @@
+package com.example.barointern.application.dto;
+
+import java.util.List;
+
+import com.example.barointern.domain.entity.Role;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "역할 일괄 변경 결과 DTO")
+public class RoleGrantResponse {
+
+	@Schema(description = "변경한 역할")
+	private Role role;
+
+	@Schema(description = "요청한 사용자 수 (중복 제외)")
+	private int total;
+
+	@Schema(description = "역할이 변경된 사용자 수")
+	private int updated;
+
+	@Schema(description = "이미 같은 역할이어서 변경하지 않은 사용자 수")
+	private int unchanged;
+
+	@Schema(description = "존재하지 않는 사용자 수")
+	private int notFound;
+
+	@Schema(description = "처리 중 오류로 변경하지 못한 사용자 수 (해당 chunk 만 실패, 다른 chunk 는 이미 커밋됨)")
+	private int failed;
+
+	@Schema(description = "사용자별 결과")
+	private List<Result> results;
+
+	public enum Status {
+		UPDATED,
+		UNCHANGED,
+		NOT_FOUND,
+		FAILED
+	}
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Result {
+
+		@Schema(description = "사용자 PK (문자열)", type = "string")
+		@JsonSerialize(using = ToStringSerializer.class)
+		private Long userId;
+
+		@Schema(description = "처리 결과")
+		private Status status;
+	}
+}
@@ -0,0 +1,6 @@
+package com.example.barointern.application.dto;
+
+public enum UserExportFormat {
+	NDJSON,  // 한 줄에 {"id": ..., "username": ..., "nickname": ..., "role": ...}
+	CSV      // 첫 줄 헤더 id,username,nickname,role
+}
@@ -0,0 +1,6 @@
+package com.example.barointern.application.dto;
+
+public enum UserImportFormat {
+	NDJSON,  // 한 줄에 {"username": ..., "password": ..., "nickname": ...}
+	CSV      // username,password,nickname (첫 줄 헤더는 생략 가능)
+}
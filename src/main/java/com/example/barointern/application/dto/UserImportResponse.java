@@ -0,0 +1,53 @@
+package com.example.barointern.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대량 사용자 등록 결과 DTO")
+public class UserImportResponse {
+
+	@Schema(description = "처리한 행 수")
+	private int total;
+
+	@Schema(description = "등록에 성공한 행 수")
+	private int created;
+
+	@Schema(description = "등록에 실패한 행 수")
+	private int failed;
+
+	@Schema(description = "실패한 행의 결과 (입력 순서, 최대 user-import.max-reported-failures 개)")
+	private List<RowResult> failures;
+
+	@Schema(description = "실패한 행이 많아 failures 에 일부만 담았으면 true")
+	private boolean failuresTruncated;
+
+	public enum RowStatus {
+		CREATED,
+		DUPLICATE_USERNAME,
+		DUPLICATE_NICKNAME,
+		INVALID,
+		FAILED  // 중복 이외의 저장 오류 또는 해싱 대기 시간 초과
+	}
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class RowResult {
+
+		@Schema(description = "입력 데이터의 줄 번호 (1부터)")
+		private long line;
+
+		@Schema(description = "사용자 아이디")
+		private String username;
+
+		@Schema(description = "처리 결과")
+		private RowStatus status;
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.barointern.application.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사용자 목록 응답 DTO")
+public class UserPageResponse {
+
+	@Schema(description = "사용자 목록 (id 오름차순)")
+	private List<UserSummaryResponse> users;
+
+	@Schema(description = "다음 페이지 조회 시 cursor 로 전달할 값 (마지막 페이지면 null)", type = "string")
+	@JsonSerialize(using = ToStringSerializer.class)
+	private Long nextCursor;
+}
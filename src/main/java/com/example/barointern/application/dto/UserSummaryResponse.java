@@ -0,0 +1,40 @@
+package com.example.barointern.application.dto;
+
+import java.util.List;
+
+import com.example.barointern.domain.entity.UserSummary;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사용자 목록 항목 DTO")
+public class UserSummaryResponse {
+
+	@Schema(description = "사용자 PK (JavaScript 의 Number 범위를 넘으므로 문자열)", type = "string")
+	@JsonSerialize(using = ToStringSerializer.class)
+	private Long id;
+
+	@Schema(description = "사용자 아이디")
+	private String username;
+
+	@Schema(description = "닉네임")
+	private String nickname;
+
+	@Schema(description = "유저 권한 리스트")
+	private List<RoleResponse> roles;
+
+	public UserSummaryResponse(UserSummary user) {
+		this.id = user.id();
+		this.username = user.username();
+		this.nickname = user.nickname();
+		this.roles = user.role() != null ?
+			List.of(new RoleResponse(user.role())) : List.of();
+	}
+}
@@ -0,0 +1,84 @@
+package com.example.barointern.application.exception;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpStatus;
+
+// 에러 응답 종류별 상태 코드/코드/메시지
+// JSON 본문은 시작 시 한 번만 UTF-8 로 인코딩해 두고, 필터/핸들러가 그대로 응답에 쓴다. (요청마다 직렬화하지 않음)
+public enum ErrorCode {
+
+	DUPLICATE_USERNAME(HttpStatus.BAD_REQUEST, "USER_ALREADY_EXISTS", "이미 가입된 사용자입니다."),
+	DUPLICATE_NICKNAME(HttpStatus.BAD_REQUEST, "USER_ALREADY_EXISTS", "이미 사용 중인 닉네임입니다."),
+	INVALID_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", "요청 값이 올바르지 않습니다."),
+	INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "INVALID_CREDENTIALS", "아이디 또는 비밀번호가 올바르지 않습니다."),
+	INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN", "유효하지 않은 인증 토큰입니다."),
+	ACCESS_DENIED(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "접근 권한이 없습니다."),
+	USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "사용자를 찾을 수 없습니다."),
+	RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+	SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_BUSY", "요청이 많아 잠시 후 다시 시도해 주세요."),
+	INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "서버 오류가 발생했습니다.");
+
+	public static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+	private final HttpStatus status;
+	private final String code;
+	private final String message;
+	private final byte[] body;
+
+	ErrorCode(HttpStatus status, String code, String message) {
+		this.status = status;
+		this.code = code;
+		this.message = message;
+		this.body = encode(code, message);
+	}
+
+	public HttpStatus status() {
+		return status;
+	}
+
+	public String code() {
+		return code;
+	}
+
+	public String message() {
+		return message;
+	}
+
+	// 미리 인코딩된 본문 (모든 요청이 같은 배열을 공유하므로 수정하면 안 된다)
+	public byte[] body() {
+		return body;
+	}
+
+	// 기본 메시지가 아닌 경우에만 새로 인코딩 (자주 발생하지 않는 경로)
+	public byte[] body(String message) {
+		return message == null || this.message.equals(message) ? body : encode(code, message);
+	}
+
+	private static byte[] encode(String code, String message) {
+		return ("{\"error\":{\"code\":\"" + escape(code) + "\",\"message\":\"" + escape(message) + "\"}}")
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String escape(String value) {
+		StringBuilder escaped = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> escaped.append("\\\"");
+				case '\\' -> escaped.append("\\\\");
+				case '\n' -> escaped.append("\\n");
+				case '\r' -> escaped.append("\\r");
+				case '\t' -> escaped.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						escaped.append(String.format("\\u%04x", (int)c));
+					} else {
+						escaped.append(c);
+					}
+				}
+			}
+		}
+		return escaped.toString();
+	}
+}
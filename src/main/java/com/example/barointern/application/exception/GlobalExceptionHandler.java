@@ -1,64 +1,101 @@
 package com.example.barointern.application.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
-import com.example.barointern.application.dto.ErrorResponse;
+import com.example.barointern.application.exception.UserAlreadyExistsException.DuplicateField;
 
+// 에러 본문은 ErrorCode 에 미리 인코딩된 바이트를 그대로 쓴다. (Jackson 직렬화 없음)
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+	private static final MediaType JSON_UTF8 = MediaType.parseMediaType(ErrorCode.CONTENT_TYPE);
+
 	@ExceptionHandler(UserAlreadyExistsException.class)
 	@ResponseStatus(HttpStatus.BAD_REQUEST)
-	public ResponseEntity<ErrorResponse> handleUserAlreadyExistsException(UserAlreadyExistsException ex) {
-		ErrorResponse errorResponse = new ErrorResponse("USER_ALREADY_EXISTS", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+	public ResponseEntity<byte[]> handleUserAlreadyExistsException(UserAlreadyExistsException ex) {
+		ErrorCode errorCode = ex.getDuplicateField() == DuplicateField.NICKNAME
+			? ErrorCode.DUPLICATE_NICKNAME
+			: ErrorCode.DUPLICATE_USERNAME;
+		return body(errorCode, ex.getMessage());
+	}
+
+	// @Valid 검증 실패 (첫 번째 오류 메시지만 응답)
+	@ExceptionHandler(MethodArgumentNotValidException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ResponseEntity<byte[]> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
+		FieldError fieldError = ex.getBindingResult().getFieldError();
+		return body(ErrorCode.INVALID_REQUEST, fieldError != null ? fieldError.getDefaultMessage() : null);
 	}
 
 	@ExceptionHandler(InvalidCredentialsException.class)
 	@ResponseStatus(HttpStatus.UNAUTHORIZED)
-	public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(InvalidCredentialsException ex) {
-		ErrorResponse errorResponse = new ErrorResponse("INVALID_CREDENTIALS", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+	public ResponseEntity<byte[]> handleInvalidCredentialsException(InvalidCredentialsException ex) {
+		return body(ErrorCode.INVALID_CREDENTIALS, ex.getMessage());
+	}
+
+	@ExceptionHandler(RateLimitedException.class)
+	@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+	public ResponseEntity<byte[]> handleRateLimitedException(RateLimitedException ex) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+			.contentType(JSON_UTF8)
+			.body(ErrorCode.RATE_LIMITED.body(ex.getMessage()));
+	}
+
+	@ExceptionHandler(ServiceBusyException.class)
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public ResponseEntity<byte[]> handleServiceBusyException(ServiceBusyException ex) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+			.contentType(JSON_UTF8)
+			.body(ErrorCode.SERVICE_BUSY.body(ex.getMessage()));
 	}
 
 	@ExceptionHandler(Exception.class)
 	@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-	public ResponseEntity<ErrorResponse> handleException(Exception ex) {
-		ErrorResponse errorResponse = new ErrorResponse("INTERNAL_SERVER_ERROR", "서버 오류가 발생했습니다.");
-		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+	public ResponseEntity<byte[]> handleException(Exception ex) {
+		return body(ErrorCode.INTERNAL_SERVER_ERROR);
 	}
 
 	@ExceptionHandler(AccessDeniedException.class)
 	@ResponseStatus(HttpStatus.FORBIDDEN)
-	public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
-		ErrorResponse errorResponse = new ErrorResponse("ACCESS_DENIED", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+	public ResponseEntity<byte[]> handleAccessDeniedException(AccessDeniedException ex) {
+		return body(ErrorCode.ACCESS_DENIED, ex.getMessage());
 	}
 
 	@ExceptionHandler(UserNotFoundException.class)
 	@ResponseStatus(HttpStatus.NOT_FOUND)
-	public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFoundException ex) {
-		ErrorResponse errorResponse = new ErrorResponse("USER_NOT_FOUND", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+	public ResponseEntity<byte[]> handleUserNotFoundException(UserNotFoundException ex) {
+		return body(ErrorCode.USER_NOT_FOUND, ex.getMessage());
 	}
 
 	@ExceptionHandler(AuthorizationDeniedException.class)
 	@ResponseStatus(HttpStatus.FORBIDDEN)
-	public ResponseEntity<ErrorResponse> handleAuthorizationDeniedException(AuthorizationDeniedException ex) {
-		ErrorResponse errorResponse = new ErrorResponse("ACCESS_DENIED", "접근 권한이 없습니다.");
-		return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+	public ResponseEntity<byte[]> handleAuthorizationDeniedException(AuthorizationDeniedException ex) {
+		return body(ErrorCode.ACCESS_DENIED);
 	}
 
 	@ExceptionHandler(InvalidTokenException.class)
 	@ResponseStatus(HttpStatus.UNAUTHORIZED)
-	public ResponseEntity<ErrorResponse> handleInvalidTokenException(InvalidTokenException ex) {
-		ErrorResponse errorResponse = new ErrorResponse("INVALID_TOKEN", "유효하지 않은 인증 토큰입니다.");
-		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+	public ResponseEntity<byte[]> handleInvalidTokenException(InvalidTokenException ex) {
+		return body(ErrorCode.INVALID_TOKEN);
 	}
 
+	private static ResponseEntity<byte[]> body(ErrorCode errorCode) {
+		return ResponseEntity.status(errorCode.status()).contentType(JSON_UTF8).body(errorCode.body());
+	}
+
+	// 메시지가 기본 메시지와 같으면 미리 인코딩된 본문을 그대로 사용
+	private static ResponseEntity<byte[]> body(ErrorCode errorCode, String message) {
+		return ResponseEntity.status(errorCode.status()).contentType(JSON_UTF8).body(errorCode.body(message));
+	}
 }
@@ -1,6 +1,11 @@
 package com.example.barointern.application.exception;
 
-public class InvalidCredentialsException extends RuntimeException {
+public class InvalidCredentialsException extends StacklessException {
+
+	// 아이디 없음 / 비밀번호 불일치 모두 같은 응답이므로 하나만 사용
+	public static final InvalidCredentialsException INSTANCE =
+		new InvalidCredentialsException(ErrorCode.INVALID_CREDENTIALS.message());
+
 	public InvalidCredentialsException(String message) {
 		super(message);
 	}
@@ -1,6 +1,14 @@
 package com.example.barointern.application.exception;
 
-public class InvalidTokenException extends RuntimeException {
+public class InvalidTokenException extends StacklessException {
+
+	public static final InvalidTokenException MISSING_REFRESH_TOKEN =
+		new InvalidTokenException("리프레시 토큰이 없습니다.");
+	public static final InvalidTokenException INVALID_REFRESH_TOKEN =
+		new InvalidTokenException("유효하지 않은 리프레시 토큰입니다.");
+	public static final InvalidTokenException NOT_ACCESS_TOKEN =
+		new InvalidTokenException("액세스 토큰으로 인증된 요청이 아닙니다.");
+
 	public InvalidTokenException(String message) {
 		super(message);
 	}
@@ -0,0 +1,15 @@
+package com.example.barointern.application.exception;
+
+public class RateLimitedException extends StacklessException {
+
+	private final long retryAfterSeconds;
+
+	public RateLimitedException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -0,0 +1,15 @@
+package com.example.barointern.application.exception;
+
+public class ServiceBusyException extends StacklessException {
+
+	private final long retryAfterSeconds;
+
+	public ServiceBusyException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -0,0 +1,11 @@
+package com.example.barointern.application.exception;
+
+// 예상된 실패 (잘못된 비밀번호, 유효하지 않은 토큰 등) 를 알리는 예외
+// 스택 트레이스를 만들지 않아 생성 비용이 작고, 상태가 없으면 하나의 인스턴스를 재사용할 수 있다.
+// (suppressed 예외도 추가되지 않으므로 여러 스레드에서 함께 던져도 안전하다)
+public abstract class StacklessException extends RuntimeException {
+
+	protected StacklessException(String message) {
+		super(message, null, false, false);
+	}
+}
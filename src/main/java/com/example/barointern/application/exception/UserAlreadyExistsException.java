@@ -1,7 +1,24 @@
 package com.example.barointern.application.exception;
 
-public class UserAlreadyExistsException extends RuntimeException {
+public class UserAlreadyExistsException extends StacklessException {
+
+	public enum DuplicateField {
+		USERNAME,
+		NICKNAME
+	}
+
+	private final DuplicateField duplicateField;
+
 	public UserAlreadyExistsException(String message) {
+		this(message, DuplicateField.USERNAME);
+	}
+
+	public UserAlreadyExistsException(String message, DuplicateField duplicateField) {
 		super(message);
+		this.duplicateField = duplicateField;
+	}
+
+	public DuplicateField getDuplicateField() {
+		return duplicateField;
 	}
 }
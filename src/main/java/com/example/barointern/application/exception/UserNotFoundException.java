@@ -1,6 +1,10 @@
 package com.example.barointern.application.exception;
 
-public class UserNotFoundException extends RuntimeException {
+public class UserNotFoundException extends StacklessException {
+
+	public static final UserNotFoundException INSTANCE =
+		new UserNotFoundException(ErrorCode.USER_NOT_FOUND.message());
+
 	public UserNotFoundException(String message) {
 		super(message);
 	}
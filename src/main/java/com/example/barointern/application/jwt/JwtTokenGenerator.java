@@ -1,7 +1,16 @@
 package com.example.barointern.application.jwt;
 
 import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserCredentials;
 
 public interface JwtTokenGenerator {
-	String createJwtToken(User user);
+	String createJwtToken(TokenSubject subject);
+
+	default String createJwtToken(User user) {
+		return createJwtToken(TokenSubject.from(user));
+	}
+
+	default String createJwtToken(UserCredentials credentials) {
+		return createJwtToken(TokenSubject.from(credentials));
+	}
 }
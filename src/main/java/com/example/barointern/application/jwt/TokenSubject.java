@@ -0,0 +1,18 @@
+package com.example.barointern.application.jwt;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserCredentials;
+
+// 액세스 토큰에 담을 사용자 정보
+public record TokenSubject(Long userId, String username, Role role, int authEpoch) {
+
+	public static TokenSubject from(User user) {
+		return new TokenSubject(user.getId(), user.getUsername(), user.getRole(), user.getAuthEpoch());
+	}
+
+	public static TokenSubject from(UserCredentials credentials) {
+		return new TokenSubject(credentials.id(), credentials.username(), credentials.role(),
+			credentials.authEpoch());
+	}
+}
@@ -0,0 +1,7 @@
+package com.example.barointern.application.security;
+
+// 로그인 시도 횟수 제한 (사용자 조회와 해싱 이전에 호출)
+public interface LoginThrottle {
+	// 제한을 넘으면 RateLimitedException 을 던진다.
+	void acquire(String username, String clientAddress);
+}
@@ -0,0 +1,11 @@
+package com.example.barointern.application.security;
+
+// 비밀번호 해싱/비교 (CPU 비용이 큰 작업이므로 구현체에서 실행 스레드를 관리한다)
+public interface PasswordHasher {
+	boolean matches(String rawPassword, String encodedPassword);
+
+	String encode(String rawPassword);
+
+	// 저장된 해시가 현재 설정보다 낮은 비용(또는 구 형식)이면 true
+	boolean upgradeEncoding(String encodedPassword);
+}
@@ -0,0 +1,13 @@
+package com.example.barointern.application.security;
+
+import reactor.core.publisher.Mono;
+
+// 리액티브 실행 모드의 비밀번호 해싱/비교 (이벤트 루프 스레드를 막지 않도록 구현체가 전용 스케줄러에서 실행)
+public interface ReactivePasswordHasher {
+	Mono<Boolean> matches(String rawPassword, String encodedPassword);
+
+	Mono<String> encode(String rawPassword);
+
+	// 저장된 해시가 현재 설정보다 낮은 비용(또는 구 형식)이면 true
+	boolean upgradeEncoding(String encodedPassword);
+}
@@ -0,0 +1,34 @@
+package com.example.barointern.application.service;
+
+import org.springframework.stereotype.Service;
+
+import com.example.barointern.application.availability.TakenNameFilter;
+import com.example.barointern.application.dto.AvailabilityResponse;
+import com.example.barointern.domain.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+	private final TakenNameFilter takenNameFilter;
+	private final UserRepository userRepository;
+
+	// Bloom filter 가 "확실히 없음"이라고 하면 DB 조회 없이 사용 가능으로 응답
+	public AvailabilityResponse check(String username, String nickname) {
+		Boolean usernameAvailable = null;
+		if (username != null) {
+			usernameAvailable = !takenNameFilter.mightContainUsername(username)
+				|| !userRepository.existsByUsername(username);
+		}
+
+		Boolean nicknameAvailable = null;
+		if (nickname != null) {
+			nicknameAvailable = !takenNameFilter.mightContainNickname(nickname)
+				|| !userRepository.existsByNickname(nickname);
+		}
+
+		return new AvailabilityResponse(usernameAvailable, nicknameAvailable);
+	}
+}
@@ -0,0 +1,166 @@
+package com.example.barointern.application.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.example.barointern.application.availability.TakenNameFilter;
+import com.example.barointern.application.dto.LoginCommand;
+import com.example.barointern.application.dto.LoginResponse;
+import com.example.barointern.application.dto.SignUpCommand;
+import com.example.barointern.application.dto.UserResponse;
+import com.example.barointern.application.exception.InvalidCredentialsException;
+import com.example.barointern.application.exception.ServiceBusyException;
+import com.example.barointern.application.exception.UserAlreadyExistsException.DuplicateField;
+import com.example.barointern.application.exception.UserNotFoundException;
+import com.example.barointern.application.jwt.TokenSubject;
+import com.example.barointern.application.security.LoginThrottle;
+import com.example.barointern.application.security.ReactivePasswordHasher;
+import com.example.barointern.application.service.UserOperationMetrics.Operation;
+import com.example.barointern.application.token.AccessTokenDetails;
+import com.example.barointern.application.token.AuthorizationEpochs;
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.repository.ReactiveUserRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// UserService 의 회원가입/로그인/관리자 권한 부여를 리액티브 저장소로 실행 (리액티브 실행 모드 전용)
+// 중복 확인, 로그인 시도 제한, 토큰 발급/재발급/폐기, 권한 epoch 처리는 서블릿 모드와 같은 컴포넌트를 사용한다.
+// 이 컴포넌트들은 JPA/JDBC 로 동작하므로 블로킹 호출은 boundedElastic 에서 실행한다.
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveUserService {
+
+	private final ReactiveUserRepository userRepository;
+	private final ReactivePasswordHasher passwordHasher;  // 전용 스케줄러에서 BCrypt 실행
+	private final TokenService tokenService;  // 블로킹 작업 (JWT 서명 + 리프레시 토큰 저장, file 저장소면 파일 쓰기)
+	private final LoginThrottle loginThrottle;
+	private final TakenNameFilter takenNameFilter;
+	private final AuthorizationEpochs authorizationEpochs;
+	private final UserOperationMetrics operationMetrics;
+
+	public Mono<UserResponse> signUp(SignUpCommand command) {
+		return operationMetrics.record(Operation.SIGN_UP, doSignUp(command));
+	}
+
+	private Mono<UserResponse> doSignUp(SignUpCommand command) {
+		// 사용 중일 가능성이 있는 이름만 해싱 전에 조회로 확인 (Bloom filter 가 "확실히 없음"이면 생략)
+		return checkUsername(command.getUsername())
+			.then(checkNickname(command.getNickname()))
+			.then(passwordHasher.encode(command.getPassword()))
+			.map(encodedPassword -> User.builder()
+				.username(command.getUsername())
+				.password(encodedPassword)
+				.nickname(command.getNickname())
+				.role(Role.USER)
+				.build())
+			// 최종 중복 판단은 unique 제약 조건 위반으로 한다. (동시 가입에도 안전)
+			.flatMap(user -> userRepository.insert(user)
+				.onErrorResume(DataIntegrityViolationException.class,
+					e -> duplicateUser(e, command.getUsername())))
+			.doOnNext(takenNameFilter::add)
+			.map(UserResponse::new);
+	}
+
+	// 로그인 처리
+	public Mono<LoginResponse> login(LoginCommand command) {
+		return operationMetrics.record(Operation.LOGIN, doLogin(command));
+	}
+
+	private Mono<LoginResponse> doLogin(LoginCommand command) {
+		// 시도 횟수 제한 (조회/해싱 전에 거절)
+		return Mono.fromRunnable(() -> loginThrottle.acquire(command.getUsername(), command.getClientAddress()))
+			.then(userRepository.findCredentialsByUsername(command.getUsername()))
+			.switchIfEmpty(Mono.error(InvalidCredentialsException.INSTANCE))
+			.flatMap(credentials -> passwordHasher.matches(command.getPassword(), credentials.password())
+				.flatMap(matched -> matched
+					? upgradePasswordIfNeeded(credentials, command.getPassword()).thenReturn(credentials)
+					: Mono.error(InvalidCredentialsException.INSTANCE)))
+			// JWT 토큰 + 리프레시 토큰 발급 (이벤트 루프를 막지 않도록 boundedElastic 에서 실행)
+			.flatMap(credentials -> Mono.fromCallable(() -> tokenService.issue(TokenSubject.from(credentials)))
+				.subscribeOn(Schedulers.boundedElastic()));
+	}
+
+	// 리프레시 토큰 저장소 조회/교체와 사용자 조회가 블로킹이므로 boundedElastic 에서 실행
+	public Mono<LoginResponse> refresh(String refreshToken) {
+		return Mono.fromCallable(() -> tokenService.refresh(refreshToken))
+			.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	// 폐기 목록 저장(DB)과 리프레시 토큰 삭제가 블로킹이므로 boundedElastic 에서 실행
+	public Mono<Void> revoke(AccessTokenDetails accessToken, String refreshToken) {
+		return Mono.<Void>fromRunnable(() -> tokenService.revoke(accessToken, refreshToken))
+			.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	public Mono<UserResponse> grantAdminRole(Long userId) {
+		return operationMetrics.record(Operation.GRANT_ADMIN_ROLE, doGrantAdminRole(userId));
+	}
+
+	private Mono<UserResponse> doGrantAdminRole(Long userId) {
+		return userRepository.findById(userId)
+			.switchIfEmpty(Mono.error(UserNotFoundException.INSTANCE))
+			.flatMap(user -> {
+				if (user.getRole() == Role.ADMIN) {
+					return Mono.just(new UserResponse(user));  // 이미 관리자면 변경하지 않음 (권한 epoch 유지)
+				}
+				// 올라간 epoch 는 변경된 행에서 다시 읽는다 (동시에 다른 변경이 있어도 DB 값과 같음)
+				return userRepository.updateRole(userId, Role.ADMIN)
+					.then(userRepository.findCredentialsById(userId))
+					.switchIfEmpty(Mono.error(UserNotFoundException.INSTANCE))
+					.map(current -> {
+						user.setRole(current.role());
+						// 이전 권한으로 발급된 토큰은 이 서버에서 바로 거절 (다른 서버는 epoch 갱신 주기 안에 반영)
+						authorizationEpochs.advance(userId, current.authEpoch());
+						return new UserResponse(user);
+					});
+			});
+	}
+
+	private Mono<Void> checkUsername(String username) {
+		if (!takenNameFilter.mightContainUsername(username)) {
+			return Mono.empty();
+		}
+		return userRepository.existsByUsername(username)
+			.flatMap(exists -> exists
+				? Mono.error(UniqueConstraintViolations.toException(DuplicateField.USERNAME))
+				: Mono.empty());
+	}
+
+	private Mono<Void> checkNickname(String nickname) {
+		if (!takenNameFilter.mightContainNickname(nickname)) {
+			return Mono.empty();
+		}
+		return userRepository.existsByNickname(nickname)
+			.flatMap(exists -> exists
+				? Mono.error(UniqueConstraintViolations.toException(DuplicateField.NICKNAME))
+				: Mono.empty());
+	}
+
+	private Mono<User> duplicateUser(DataIntegrityViolationException e, String username) {
+		DuplicateField field = UniqueConstraintViolations.constraintOf(e);
+		// 제약 조건 이름을 알 수 없는 경우 (이전 스키마 등) 조회로 확인
+		Mono<DuplicateField> resolved = field != null
+			? Mono.just(field)
+			: userRepository.existsByUsername(username)
+				.map(exists -> exists ? DuplicateField.USERNAME : DuplicateField.NICKNAME);
+		return resolved.flatMap(duplicate -> Mono.error(UniqueConstraintViolations.toException(duplicate)));
+	}
+
+	// 예전 비용/형식으로 저장된 비밀번호는 현재 설정으로 재해싱
+	private Mono<Void> upgradePasswordIfNeeded(UserCredentials credentials, String rawPassword) {
+		if (!passwordHasher.upgradeEncoding(credentials.password())) {
+			return Mono.empty();
+		}
+		return passwordHasher.encode(rawPassword)
+			.flatMap(encodedPassword -> userRepository.updatePassword(credentials.id(), encodedPassword))
+			// 재해싱은 다음 로그인 때 다시 시도 (로그인 자체는 성공 처리)
+			.onErrorResume(ServiceBusyException.class, e -> Mono.empty())
+			.then();
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.barointern.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import com.example.barointern.application.dto.RoleGrantCommand;
+import com.example.barointern.application.dto.RoleGrantResponse;
+import com.example.barointern.application.dto.RoleGrantResponse.Result;
+import com.example.barointern.application.dto.RoleGrantResponse.Status;
+import com.example.barointern.application.token.AuthorizationEpochs;
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.UserRoleState;
+import com.example.barointern.domain.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 여러 사용자의 역할을 한 번에 변경
+// chunk 마다: 현재 역할 조회 1회 → 바뀌어야 하는 사용자만 UPDATE 1회 (사용자 수와 무관하게 chunk 당 쿼리 2회)
+// UPDATE 는 chunk 단위로 커밋되며, 사용자 캐시와 권한 epoch 도 chunk 마다 함께 갱신한다.
+// 앞의 chunk 는 이미 커밋되었으므로 한 chunk 가 실패해도 전체를 실패로 응답하지 않고,
+// 그 chunk 의 사용자만 FAILED 로 기록한 뒤 다음 chunk 를 계속 처리한다.
+@Slf4j
+@Service
+public class RoleGrantService {
+
+	private final UserRepository userRepository;
+	private final AuthorizationEpochs authorizationEpochs;
+	private final int chunkSize;
+
+	public RoleGrantService(UserRepository userRepository,
+		AuthorizationEpochs authorizationEpochs,
+		@Value("${role-grant.chunk-size:1000}") int chunkSize) {
+		this.userRepository = userRepository;
+		this.authorizationEpochs = authorizationEpochs;
+		this.chunkSize = chunkSize;
+	}
+
+	public RoleGrantResponse grantRole(RoleGrantCommand command) {
+		Role role = command.getRole();
+		// 중복/null 제거 (요청 순서 유지)
+		List<Long> userIds = command.getUserIds() == null ? List.of()
+			: new ArrayList<>(new LinkedHashSet<>(command.getUserIds().stream().filter(Objects::nonNull).toList()));
+
+		Map<Long, Status> statuses = new HashMap<>();
+		for (int from = 0; from < userIds.size(); from += chunkSize) {
+			List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+			try {
+				processChunk(chunk, role, statuses);
+			} catch (DataAccessException | TransactionException e) {
+				log.warn("역할 변경 chunk 처리 실패 ({}명)", chunk.size(), e);
+				for (Long userId : chunk) {
+					statuses.putIfAbsent(userId, Status.FAILED);  // 이미 UNCHANGED 로 확인된 사용자는 그대로
+				}
+			}
+		}
+
+		List<Result> results = new ArrayList<>(userIds.size());
+		int updated = 0;
+		int unchanged = 0;
+		int failed = 0;
+		for (Long userId : userIds) {
+			Status status = statuses.getOrDefault(userId, Status.NOT_FOUND);
+			switch (status) {
+				case UPDATED -> updated++;
+				case UNCHANGED -> unchanged++;
+				case FAILED -> failed++;
+				case NOT_FOUND -> {
+				}
+			}
+			results.add(new Result(userId, status));
+		}
+		return new RoleGrantResponse(role, userIds.size(), updated, unchanged,
+			userIds.size() - updated - unchanged - failed, failed, results);
+	}
+
+	private void processChunk(List<Long> chunk, Role role, Map<Long, Status> statuses) {
+		List<UserRoleState> states = userRepository.findRoleStatesByIds(chunk);
+
+		List<UserRoleState> targets = new ArrayList<>();
+		for (UserRoleState state : states) {
+			if (state.role() == role) {
+				statuses.put(state.id(), Status.UNCHANGED);
+			} else {
+				targets.add(state);
+			}
+		}
+		if (targets.isEmpty()) {
+			return;
+		}
+
+		userRepository.updateRoles(targets.stream().map(UserRoleState::id).toList(), role);
+		for (UserRoleState target : targets) {
+			statuses.put(target.id(), Status.UPDATED);
+			// 이전 역할로 발급된 토큰은 이 서버에서 바로 거절
+			authorizationEpochs.advance(target.id(), target.authEpoch() + 1);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.barointern.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.barointern.application.dto.LoginResponse;
+import com.example.barointern.application.exception.InvalidTokenException;
+import com.example.barointern.application.jwt.JwtTokenGenerator;
+import com.example.barointern.application.jwt.TokenSubject;
+import com.example.barointern.application.token.AccessTokenDetails;
+import com.example.barointern.application.token.RefreshToken;
+import com.example.barointern.application.token.RefreshTokenStore;
+import com.example.barointern.application.token.TokenDenylist;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.repository.UserRepository;
+
+// 액세스 토큰 + 리프레시 토큰 발급
+// 리프레시 토큰은 의미 없는 난수 문자열이며, 저장소에는 SHA-256 해시만 보관한다.
+// 재발급 시 기존 리프레시 토큰은 삭제되고 새 토큰이 발급된다. (rotation, BCrypt 검증 없음)
+// 재발급해도 처음 로그인한 시각은 유지되며, 로그인 후 max-lifetime 이 지나면 다시 로그인해야 한다.
+@Service
+public class TokenService {
+
+	private static final int REFRESH_TOKEN_BYTES = 32;
+	private static final SecureRandom RANDOM = new SecureRandom();
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	});
+
+	private final JwtTokenGenerator jwtTokenGenerator;
+	private final RefreshTokenStore refreshTokenStore;
+	private final TokenDenylist tokenDenylist;
+	private final UserRepository userRepository;
+	private final Duration refreshTokenValidity;
+	private final Duration refreshTokenMaxLifetime;
+
+	public TokenService(JwtTokenGenerator jwtTokenGenerator, RefreshTokenStore refreshTokenStore,
+		TokenDenylist tokenDenylist, UserRepository userRepository,
+		@Value("${refresh-token.validity:14d}") Duration refreshTokenValidity,
+		@Value("${refresh-token.max-lifetime:30d}") Duration refreshTokenMaxLifetime) {
+		this.jwtTokenGenerator = jwtTokenGenerator;
+		this.refreshTokenStore = refreshTokenStore;
+		this.tokenDenylist = tokenDenylist;
+		this.userRepository = userRepository;
+		this.refreshTokenValidity = refreshTokenValidity;
+		this.refreshTokenMaxLifetime = refreshTokenMaxLifetime;
+	}
+
+	// 로그인 시 발급
+	public LoginResponse issue(TokenSubject subject) {
+		return issue(subject, Instant.now());
+	}
+
+	// 만료 시각은 지금부터 validity 후와 로그인 후 max-lifetime 중 이른 쪽
+	private LoginResponse issue(TokenSubject subject, Instant loginAt) {
+		String accessToken = jwtTokenGenerator.createJwtToken(subject);
+
+		byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+		RANDOM.nextBytes(bytes);
+		String refreshToken = ENCODER.encodeToString(bytes);
+		Instant expiresAt = Instant.now().plus(refreshTokenValidity);
+		Instant maxExpiresAt = loginAt.plus(refreshTokenMaxLifetime);
+		if (maxExpiresAt.isBefore(expiresAt)) {
+			expiresAt = maxExpiresAt;
+		}
+		refreshTokenStore.save(new RefreshToken(hash(refreshToken), subject.userId(), subject.username(),
+			loginAt, expiresAt));
+
+		return new LoginResponse(accessToken, refreshToken);
+	}
+
+	public LoginResponse refresh(String refreshToken) {
+		if (refreshToken == null || refreshToken.isBlank()) {
+			throw InvalidTokenException.MISSING_REFRESH_TOKEN;
+		}
+		// 꺼내는 순간 삭제되므로 같은 토큰으로 동시에 요청해도 한 번만 성공한다.
+		RefreshToken stored = refreshTokenStore.consume(hash(refreshToken))
+			.filter(token -> !token.isExpired(Instant.now()))
+			.orElseThrow(() -> InvalidTokenException.INVALID_REFRESH_TOKEN);
+
+		// 현재 역할/권한 epoch 로 발급 (캐시를 거치지 않는 projection 조회, 비밀번호 검증 없음)
+		UserCredentials credentials = userRepository.findCredentialsById(stored.userId())
+			.orElseThrow(() -> InvalidTokenException.INVALID_REFRESH_TOKEN);
+		return issue(TokenSubject.from(credentials), stored.loginAt());
+	}
+
+	// 현재 액세스 토큰을 폐기하고, 함께 전달된 리프레시 토큰도 사용할 수 없게 한다.
+	public void revoke(AccessTokenDetails accessToken, String refreshToken) {
+		tokenDenylist.revoke(accessToken.tokenId(), accessToken.expiresAt());
+		if (refreshToken != null && !refreshToken.isBlank()) {
+			refreshTokenStore.consume(hash(refreshToken));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${refresh-token.purge-interval:10m}")
+	public void purgeExpired() {
+		refreshTokenStore.purgeExpired();
+	}
+
+	private static String hash(String refreshToken) {
+		byte[] digest = SHA_256.get().digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(digest);
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.barointern.application.service;
+
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.barointern.application.exception.ErrorCode;
+import com.example.barointern.application.exception.UserAlreadyExistsException;
+import com.example.barointern.application.exception.UserAlreadyExistsException.DuplicateField;
+import com.example.barointern.domain.entity.User;
+
+// unique 제약 조건 위반에서 어느 컬럼이 충돌했는지 판별
+final class UniqueConstraintViolations {
+
+	// 상태가 없는 stackless 예외이므로 하나씩만 만들어 재사용
+	private static final UserAlreadyExistsException DUPLICATE_USERNAME =
+		new UserAlreadyExistsException(ErrorCode.DUPLICATE_USERNAME.message(), DuplicateField.USERNAME);
+	private static final UserAlreadyExistsException DUPLICATE_NICKNAME =
+		new UserAlreadyExistsException(ErrorCode.DUPLICATE_NICKNAME.message(), DuplicateField.NICKNAME);
+
+	private UniqueConstraintViolations() {
+	}
+
+	static DuplicateField duplicateField(DataIntegrityViolationException e, BooleanSupplier usernameExists) {
+		DuplicateField field = constraintOf(e);
+		if (field != null) {
+			return field;
+		}
+		// 제약 조건 이름을 알 수 없는 경우 (이전 스키마 등) 조회로 확인
+		return usernameExists.getAsBoolean() ? DuplicateField.USERNAME : DuplicateField.NICKNAME;
+	}
+
+	// 오류 메시지의 제약 조건 이름으로만 판별 (알 수 없으면 null)
+	static DuplicateField constraintOf(DataIntegrityViolationException e) {
+		String cause = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+
+		if (cause.contains(User.USERNAME_CONSTRAINT)) {
+			return DuplicateField.USERNAME;
+		}
+		if (cause.contains(User.NICKNAME_CONSTRAINT)) {
+			return DuplicateField.NICKNAME;
+		}
+		return null;
+	}
+
+	static UserAlreadyExistsException toException(DuplicateField field) {
+		return field == DuplicateField.USERNAME ? DUPLICATE_USERNAME : DUPLICATE_NICKNAME;
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.barointern.application.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+
+import com.example.barointern.application.dto.UserExportFormat;
+import com.example.barointern.domain.entity.UserSummary;
+import com.example.barointern.domain.repository.UserExportReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// 전체 사용자 내보내기
+// DB 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰므로 사용자 수와 무관하게 메모리 사용량이 일정하다.
+// 비밀번호 해시는 내보내지 않는다.
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final UserExportReader userExportReader;
+	private final ObjectMapper objectMapper;
+
+	// 내보낸 사용자 수 반환 (output 은 닫지 않는다)
+	public long export(OutputStream output, UserExportFormat format, boolean gzip) throws IOException {
+		GZIPOutputStream gzipOutput = gzip ? new GZIPOutputStream(output, BUFFER_SIZE) : null;
+		Writer writer = new BufferedWriter(
+			new OutputStreamWriter(gzip ? gzipOutput : output, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+		long count;
+		try {
+			count = format == UserExportFormat.CSV ? writeCsv(writer) : writeNdjson(writer);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();  // 클라이언트 연결 끊김 등
+		}
+
+		writer.flush();
+		if (gzipOutput != null) {
+			gzipOutput.finish();
+		}
+		return count;
+	}
+
+	private long writeNdjson(Writer writer) throws IOException {
+		long[] count = {0};
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		generator.setRootValueSeparator(new SerializedString("\n"));
+
+		userExportReader.forEachUser(user -> {
+			try {
+				generator.writeStartObject();
+				generator.writeStringField("id", Long.toString(user.id()));  // API 응답과 같이 문자열 (2^53 초과)
+				generator.writeStringField("username", user.username());
+				generator.writeStringField("nickname", user.nickname());
+				generator.writeStringField("role", user.role() != null ? user.role().name() : null);
+				generator.writeEndObject();
+				count[0]++;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+
+		generator.flush();
+		if (count[0] > 0) {
+			writer.write('\n');
+		}
+		return count[0];
+	}
+
+	private long writeCsv(Writer writer) throws IOException {
+		long[] count = {0};
+		writer.write("id,username,nickname,role\n");
+
+		userExportReader.forEachUser(user -> {
+			try {
+				writer.write(Long.toString(user.id()));
+				writer.write(',');
+				writeCsvField(writer, user.username());
+				writer.write(',');
+				writeCsvField(writer, user.nickname());
+				writer.write(',');
+				writer.write(user.role() != null ? user.role().name() : "");
+				writer.write('\n');
+				count[0]++;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		return count[0];
+	}
+
+	// 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싼다. (RFC 4180)
+	// 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭, CR 로 시작하는 값은 앞에 ' 를 붙인다. (CSV injection)
+	private static void writeCsvField(Writer writer, String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (!value.isEmpty() && isFormulaPrefix(value.charAt(0))) {
+			value = "'" + value;
+		}
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+	private static boolean isFormulaPrefix(char c) {
+		return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+	}
+}
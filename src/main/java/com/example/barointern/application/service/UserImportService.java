@@ -0,0 +1,295 @@
+package com.example.barointern.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.example.barointern.application.availability.TakenNameFilter;
+import com.example.barointern.application.dto.UserImportFormat;
+import com.example.barointern.application.dto.UserImportResponse;
+import com.example.barointern.application.dto.UserImportResponse.RowResult;
+import com.example.barointern.application.dto.UserImportResponse.RowStatus;
+import com.example.barointern.application.exception.ServiceBusyException;
+import com.example.barointern.application.exception.UserAlreadyExistsException.DuplicateField;
+import com.example.barointern.application.security.PasswordHasher;
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.repository.UserBatchWriter;
+import com.example.barointern.domain.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 대량 사용자 등록
+// 입력을 한 줄씩 읽어 chunk 단위로 처리하므로 업로드 전체를 메모리에 올리지 않는다.
+// chunk 마다: 중복 확인 1회 → 비밀번호 병렬 해싱 → JDBC batch INSERT 1회
+// 응답에는 건수와 실패한 행만 담는다. (성공한 행까지 모으면 업로드 크기만큼 메모리를 쓴다)
+@Service
+public class UserImportService {
+
+	private final UserRepository userRepository;
+	private final UserBatchWriter userBatchWriter;
+	private final PasswordHasher passwordHasher;
+	private final TakenNameFilter takenNameFilter;
+	private final ObjectMapper objectMapper;
+	private final int chunkSize;
+	private final int maxReportedFailures;
+
+	// 해싱은 로그인/가입과 같은 PasswordHasher 스레드에서 실행하고,
+	// 대량 등록이 동시에 넣을 수 있는 작업 수만 제한해 나머지 자리를 로그인/가입에 남긴다.
+	private final Semaphore hashingPermits;
+
+	public UserImportService(UserRepository userRepository,
+		UserBatchWriter userBatchWriter,
+		PasswordHasher passwordHasher,
+		TakenNameFilter takenNameFilter,
+		ObjectMapper objectMapper,
+		@Value("${user-import.chunk-size:500}") int chunkSize,
+		@Value("${user-import.max-concurrent-hashes:0}") int maxConcurrentHashes,
+		@Value("${user-import.max-reported-failures:1000}") int maxReportedFailures) {
+		this.userRepository = userRepository;
+		this.userBatchWriter = userBatchWriter;
+		this.passwordHasher = passwordHasher;
+		this.takenNameFilter = takenNameFilter;
+		this.objectMapper = objectMapper;
+		this.chunkSize = chunkSize;
+		this.maxReportedFailures = maxReportedFailures;
+		this.hashingPermits = new Semaphore(maxConcurrentHashes > 0
+			? maxConcurrentHashes : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+	}
+
+	public UserImportResponse importUsers(InputStream input, UserImportFormat format) throws IOException {
+		ImportResult result = new ImportResult(maxReportedFailures);
+		List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+			String line;
+			long lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank()) {
+					continue;
+				}
+				if (format == UserImportFormat.CSV && lineNumber == 1 && isCsvHeader(line)) {
+					continue;
+				}
+				chunk.add(parse(line, lineNumber, format));
+				if (chunk.size() >= chunkSize) {
+					processChunk(chunk, result);
+					chunk.clear();
+				}
+			}
+		}
+		if (!chunk.isEmpty()) {
+			processChunk(chunk, result);
+		}
+
+		return result.toResponse();
+	}
+
+	private void processChunk(List<ImportRow> chunk, ImportResult result) {
+		RowStatus[] statuses = new RowStatus[chunk.size()];
+
+		// 1. 형식 검사 + chunk 내부 중복
+		Set<String> usernames = new HashSet<>();
+		Set<String> nicknames = new HashSet<>();
+		for (int i = 0; i < chunk.size(); i++) {
+			ImportRow row = chunk.get(i);
+			if (!row.isValid()) {
+				statuses[i] = RowStatus.INVALID;
+			} else if (usernames.contains(row.username())) {
+				statuses[i] = RowStatus.DUPLICATE_USERNAME;
+			} else if (nicknames.contains(row.nickname())) {
+				statuses[i] = RowStatus.DUPLICATE_NICKNAME;
+			} else {
+				usernames.add(row.username());
+				nicknames.add(row.nickname());
+			}
+		}
+
+		// 2. 이미 가입된 이름 (chunk 당 조회 2회)
+		Set<String> existingUsernames = usernames.isEmpty()
+			? Set.of() : new HashSet<>(userRepository.findExistingUsernames(usernames));
+		Set<String> existingNicknames = nicknames.isEmpty()
+			? Set.of() : new HashSet<>(userRepository.findExistingNicknames(nicknames));
+
+		List<Integer> candidates = new ArrayList<>();
+		for (int i = 0; i < chunk.size(); i++) {
+			if (statuses[i] != null) {
+				continue;
+			}
+			ImportRow row = chunk.get(i);
+			if (existingUsernames.contains(row.username())) {
+				statuses[i] = RowStatus.DUPLICATE_USERNAME;
+			} else if (existingNicknames.contains(row.nickname())) {
+				statuses[i] = RowStatus.DUPLICATE_NICKNAME;
+			} else {
+				candidates.add(i);
+			}
+		}
+
+		// 3. 비밀번호 병렬 해싱 → batch INSERT
+		List<User> users = hashInParallel(chunk, candidates, statuses);
+		if (!users.isEmpty()) {
+			insert(users, candidates, statuses);
+		}
+
+		for (int i = 0; i < chunk.size(); i++) {
+			result.add(chunk.get(i), statuses[i]);
+		}
+	}
+
+	// 해싱 대기 시간이 기한을 넘은 행은 FAILED 로 표시하고 candidates 에서 뺀다.
+	private List<User> hashInParallel(List<ImportRow> chunk, List<Integer> candidates, RowStatus[] statuses) {
+		List<Future<String>> hashes = new ArrayList<>(candidates.size());
+		// 작업마다 가상 스레드 하나 (PasswordHasher 결과를 기다리는 동안 플랫폼 스레드를 잡지 않음)
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int index : candidates) {
+				String rawPassword = chunk.get(index).password();
+				hashes.add(executor.submit(() -> encode(rawPassword)));
+			}
+
+			List<User> users = new ArrayList<>(candidates.size());
+			List<Integer> hashed = new ArrayList<>(candidates.size());
+			for (int i = 0; i < candidates.size(); i++) {
+				int index = candidates.get(i);
+				String encodedPassword;
+				try {
+					encodedPassword = hashes.get(i).get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof ServiceBusyException) {
+						statuses[index] = RowStatus.FAILED;
+						continue;
+					}
+					hashes.forEach(future -> future.cancel(true));
+					throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e.getCause());
+				}
+				ImportRow row = chunk.get(index);
+				users.add(User.builder()
+					.username(row.username())
+					.password(encodedPassword)
+					.nickname(row.nickname())
+					.role(Role.USER)
+					.build());
+				hashed.add(index);
+			}
+			candidates.retainAll(hashed);
+			return users;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 해싱이 중단되었습니다.", e);
+		}
+	}
+
+	private String encode(String rawPassword) throws InterruptedException {
+		hashingPermits.acquire();
+		try {
+			return passwordHasher.encode(rawPassword);
+		} finally {
+			hashingPermits.release();
+		}
+	}
+
+	private void insert(List<User> users, List<Integer> candidates, RowStatus[] statuses) {
+		try {
+			userBatchWriter.insertAll(users);
+			candidates.forEach(index -> statuses[index] = RowStatus.CREATED);
+			users.forEach(takenNameFilter::add);
+			return;
+		} catch (DataIntegrityViolationException e) {
+			// 조회 이후 다른 요청이 같은 이름으로 가입한 경우: 이 chunk 는 한 건씩 다시 저장
+		}
+
+		for (int i = 0; i < users.size(); i++) {
+			User user = users.get(i);
+			try {
+				userBatchWriter.insertAll(List.of(user));
+				statuses[candidates.get(i)] = RowStatus.CREATED;
+				takenNameFilter.add(user);
+			} catch (DataIntegrityViolationException e) {
+				// username / nickname 의 unique 제약 조건만 중복으로 본다. (길이 초과 등 다른 위반은 FAILED)
+				DuplicateField field = UniqueConstraintViolations.constraintOf(e);
+				statuses[candidates.get(i)] = field == null ? RowStatus.FAILED
+					: field == DuplicateField.USERNAME ? RowStatus.DUPLICATE_USERNAME : RowStatus.DUPLICATE_NICKNAME;
+			}
+		}
+	}
+
+	private ImportRow parse(String line, long lineNumber, UserImportFormat format) {
+		if (format == UserImportFormat.CSV) {
+			String[] columns = line.split(",", -1);
+			if (columns.length != 3) {
+				return ImportRow.invalid(lineNumber);
+			}
+			return new ImportRow(lineNumber, columns[0].trim(), columns[1], columns[2].trim());
+		}
+
+		try {
+			ImportLine importLine = objectMapper.readValue(line, ImportLine.class);
+			return new ImportRow(lineNumber, importLine.username(), importLine.password(), importLine.nickname());
+		} catch (JsonProcessingException e) {
+			return ImportRow.invalid(lineNumber);
+		}
+	}
+
+	private static boolean isCsvHeader(String line) {
+		return line.replace(" ", "").equalsIgnoreCase("username,password,nickname");
+	}
+
+	private record ImportLine(String username, String password, String nickname) {
+	}
+
+	// 건수는 모두 세고, 실패한 행은 maxReportedFailures 개까지만 보관
+	private static class ImportResult {
+
+		private final int maxReportedFailures;
+		private final List<RowResult> failures = new ArrayList<>();
+		private int total;
+		private int created;
+
+		ImportResult(int maxReportedFailures) {
+			this.maxReportedFailures = maxReportedFailures;
+		}
+
+		void add(ImportRow row, RowStatus status) {
+			total++;
+			if (status == RowStatus.CREATED) {
+				created++;
+			} else if (failures.size() < maxReportedFailures) {
+				failures.add(new RowResult(row.lineNumber(), row.username(), status));
+			}
+		}
+
+		UserImportResponse toResponse() {
+			int failed = total - created;
+			return new UserImportResponse(total, created, failed, failures, failed > failures.size());
+		}
+	}
+
+	private record ImportRow(long lineNumber, String username, String password, String nickname) {
+
+		static ImportRow invalid(long lineNumber) {
+			return new ImportRow(lineNumber, null, null, null);
+		}
+
+		boolean isValid() {
+			return username != null && !username.isBlank()
+				&& password != null && !password.isEmpty()
+				&& nickname != null && !nickname.isBlank();
+		}
+	}
+}
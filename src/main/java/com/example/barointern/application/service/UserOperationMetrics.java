@@ -0,0 +1,80 @@
+package com.example.barointern.application.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+// 회원가입/로그인/관리자 권한 부여 처리 시간 (user.operation, operation + outcome 태그)
+// 타이머는 미리 만들어 두고 요청마다 조회/등록하지 않는다.
+@Component
+class UserOperationMetrics {
+
+	enum Operation {
+		SIGN_UP("sign_up"),
+		LOGIN("login"),
+		GRANT_ADMIN_ROLE("grant_admin_role");
+
+		private final String tag;
+
+		Operation(String tag) {
+			this.tag = tag;
+		}
+	}
+
+	private record OperationTimers(Timer success, Timer failure) {
+	}
+
+	private final Map<Operation, OperationTimers> timers = new EnumMap<>(Operation.class);
+
+	UserOperationMetrics(MeterRegistry meterRegistry) {
+		for (Operation operation : Operation.values()) {
+			timers.put(operation, new OperationTimers(
+				timer(meterRegistry, operation, "success"),
+				timer(meterRegistry, operation, "failure")));
+		}
+	}
+
+	<T> T record(Operation operation, Supplier<T> action) {
+		long startedAt = System.nanoTime();
+		boolean succeeded = false;
+		try {
+			T result = action.get();
+			succeeded = true;
+			return result;
+		} finally {
+			stop(operation, startedAt, succeeded);
+		}
+	}
+
+	// 구독 시점부터 완료/에러까지 (취소된 요청은 기록하지 않음)
+	<T> Mono<T> record(Operation operation, Mono<T> action) {
+		return Mono.defer(() -> {
+			long startedAt = System.nanoTime();
+			return action
+				.doOnSuccess(result -> stop(operation, startedAt, true))
+				.doOnError(e -> stop(operation, startedAt, false));
+		});
+	}
+
+	private void stop(Operation operation, long startedAt, boolean succeeded) {
+		OperationTimers operationTimers = timers.get(operation);
+		(succeeded ? operationTimers.success() : operationTimers.failure())
+			.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+	}
+
+	private static Timer timer(MeterRegistry meterRegistry, Operation operation, String outcome) {
+		return Timer.builder("user.operation")
+			.description("회원가입/로그인/관리자 권한 부여 처리 시간")
+			.tag("operation", operation.tag)
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+}
@@ -1,46 +1,78 @@
 package com.example.barointern.application.service;
 
+import com.example.barointern.application.availability.TakenNameFilter;
 import com.example.barointern.application.dto.LoginCommand;
 import com.example.barointern.application.dto.LoginResponse;
 import com.example.barointern.application.dto.SignUpCommand;
-import com.example.barointern.application.jwt.JwtTokenGenerator;
+import com.example.barointern.application.dto.UserPageResponse;
+import com.example.barointern.application.dto.UserSummaryResponse;
+import com.example.barointern.application.jwt.TokenSubject;
+import com.example.barointern.application.security.LoginThrottle;
+import com.example.barointern.application.security.PasswordHasher;
+import com.example.barointern.application.service.UserOperationMetrics.Operation;
+import com.example.barointern.application.token.AuthorizationEpochs;
 import com.example.barointern.domain.entity.User;
 import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.entity.UserSummary;
 import com.example.barointern.application.exception.InvalidCredentialsException;
+import com.example.barointern.application.exception.ServiceBusyException;
 import com.example.barointern.application.exception.UserNotFoundException;
 import com.example.barointern.domain.repository.UserRepository;
 import com.example.barointern.application.dto.UserResponse;
-import com.example.barointern.application.exception.UserAlreadyExistsException; // 도메인 예외
+import com.example.barointern.application.exception.UserAlreadyExistsException.DuplicateField;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
-	private final JwtTokenGenerator jwtTokenGenerator;  // 도메인 서비스로 사용
+	private final PasswordHasher passwordHasher;  // 전용 스레드에서 BCrypt 실행
+	private final TokenService tokenService;  // 액세스/리프레시 토큰 발급
+	private final LoginThrottle loginThrottle;
+	private final TakenNameFilter takenNameFilter;
+	private final AuthorizationEpochs authorizationEpochs;
+	private final UserOperationMetrics operationMetrics;
 
 	public UserResponse signUp(SignUpCommand command) {
-		if (userRepository.existsByUsername(command.getUsername())) {
-			throw new UserAlreadyExistsException("이미 가입된 사용자입니다.");
-		}
+		return operationMetrics.record(Operation.SIGN_UP, () -> doSignUp(command));
+	}
 
-		if (userRepository.existsByNickname(command.getNickname())) {
-			throw new UserAlreadyExistsException("이미 가입된 사용자입니다.");
+	private UserResponse doSignUp(SignUpCommand command) {
+		// 사용 중일 가능성이 있는 이름만 해싱 전에 조회로 확인 (Bloom filter 가 "확실히 없음"이면 생략)
+		if (takenNameFilter.mightContainUsername(command.getUsername())
+			&& userRepository.existsByUsername(command.getUsername())) {
+			throw UniqueConstraintViolations.toException(DuplicateField.USERNAME);
+		}
+		if (takenNameFilter.mightContainNickname(command.getNickname())
+			&& userRepository.existsByNickname(command.getNickname())) {
+			throw UniqueConstraintViolations.toException(DuplicateField.NICKNAME);
 		}
 
 		User user = User.builder()
 			.username(command.getUsername())
-			.password(passwordEncoder.encode(command.getPassword()))
+			.password(passwordHasher.encode(command.getPassword()))
 			.nickname(command.getNickname())
 			.role(Role.USER)
 			.build();
 
-		User saved = userRepository.save(user);
+		// 최종 중복 판단은 unique 제약 조건 위반으로 한다. (동시 가입에도 안전)
+		User saved;
+		try {
+			saved = userRepository.saveAndFlush(user);
+		} catch (DataIntegrityViolationException e) {
+			throw UniqueConstraintViolations.toException(UniqueConstraintViolations.duplicateField(e,
+				() -> userRepository.existsByUsername(command.getUsername())));
+		}
+		takenNameFilter.add(saved);
 
 		// UserResponse에 User 객체를 넘겨서 생성
 		return new UserResponse(saved);
@@ -48,33 +80,78 @@ public class UserService {
 
 	// 로그인 처리
 	public LoginResponse login(LoginCommand command) {
-		// 사용자 조회
-		User user = userRepository.findByUsername(command.getUsername())
-			.orElseThrow(() -> new InvalidCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다."));
+		return operationMetrics.record(Operation.LOGIN, () -> doLogin(command));
+	}
+
+	private LoginResponse doLogin(LoginCommand command) {
+		// 시도 횟수 제한 (조회/해싱 전에 거절)
+		loginThrottle.acquire(command.getUsername(), command.getClientAddress());
+
+		// 사용자 조회 (엔티티 대신 로그인에 필요한 값만 조회)
+		UserCredentials credentials = userRepository.findCredentialsByUsername(command.getUsername())
+			.orElseThrow(() -> InvalidCredentialsException.INSTANCE);
 
 		// 비밀번호 매칭 확인
-		if (!passwordEncoder.matches(command.getPassword(), user.getPassword())) {
-			throw new InvalidCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다.");
+		if (!passwordHasher.matches(command.getPassword(), credentials.password())) {
+			throw InvalidCredentialsException.INSTANCE;
 		}
 
-		// JWT 토큰 생성
-		String token = jwtTokenGenerator.createJwtToken(user);
+		// 예전 비용/형식으로 저장된 비밀번호는 현재 설정으로 재해싱
+		upgradePasswordIfNeeded(credentials, command.getPassword());
 
+		// JWT 토큰 + 리프레시 토큰 발급
+		return tokenService.issue(TokenSubject.from(credentials));
 
-		return new LoginResponse(token);
+	}
 
+	private void upgradePasswordIfNeeded(UserCredentials credentials, String rawPassword) {
+		if (!passwordHasher.upgradeEncoding(credentials.password())) {
+			return;
+		}
+		try {
+			userRepository.updatePassword(credentials.id(), passwordHasher.encode(rawPassword));
+		} catch (ServiceBusyException e) {
+			// 재해싱은 다음 로그인 때 다시 시도 (로그인 자체는 성공 처리)
+		}
 	}
 
 	public UserResponse grantAdminRole(Long userId) {
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+		return operationMetrics.record(Operation.GRANT_ADMIN_ROLE, () -> doGrantAdminRole(userId));
+	}
 
-		user.setRole(Role.ADMIN);
-		userRepository.save(user);
+	private UserResponse doGrantAdminRole(Long userId) {
+		User user = userRepository.findById(userId)  // 응답에 쓸 이름/닉네임
+			.orElseThrow(() -> UserNotFoundException.INSTANCE);
+		// 역할과 권한 epoch 는 캐시가 아닌 DB 의 현재 값으로 확인 (다른 서버에서 바뀌었을 수 있음)
+		UserCredentials current = userRepository.findCredentialsById(userId)
+			.orElseThrow(() -> UserNotFoundException.INSTANCE);
+
+		// 이미 관리자면 변경하지 않음 (권한 epoch 를 올리지 않아 기존 토큰 유지)
+		if (current.role() != Role.ADMIN) {
+			// 엔티티 병합(merge) 없이 UPDATE 한 번으로 변경 (캐시도 함께 무효화, 권한 epoch 증가)
+			userRepository.updateRole(userId, Role.ADMIN);
+			// 올라간 epoch 는 변경된 행에서 다시 읽는다 (동시에 다른 변경이 있어도 DB 값과 같음)
+			current = userRepository.findCredentialsById(userId)
+				.orElseThrow(() -> UserNotFoundException.INSTANCE);
+			// 이전 권한으로 발급된 토큰은 이 서버에서 바로 거절 (다른 서버는 epoch 갱신 주기 안에 반영)
+			authorizationEpochs.advance(userId, current.authEpoch());
+		}
 
+		user.setRole(current.role());
 		return new UserResponse(user);
 	}
 
+	// cursor(이전 페이지의 마지막 id) 다음부터 조회하므로 몇 번째 페이지든 비용이 같다.
+	public UserPageResponse listUsers(Long cursor, Role role, int size) {
+		int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
+		// 한 명 더 조회해서 다음 페이지 존재 여부 확인
+		List<UserSummary> users = userRepository.findSummaries(cursor != null ? cursor : 0L, role, limit + 1);
+		boolean hasNext = users.size() > limit;
+		List<UserSummary> page = hasNext ? users.subList(0, limit) : users;
 
+		return new UserPageResponse(
+			page.stream().map(UserSummaryResponse::new).toList(),
+			hasNext ? page.get(page.size() - 1).id() : null);
+	}
 }
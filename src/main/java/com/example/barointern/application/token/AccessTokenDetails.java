@@ -0,0 +1,7 @@
+package com.example.barointern.application.token;
+
+import java.time.Instant;
+
+// 인증에 사용된 액세스 토큰 정보 (Authentication#getDetails 로 전달)
+public record AccessTokenDetails(long tokenId, Instant expiresAt) {
+}
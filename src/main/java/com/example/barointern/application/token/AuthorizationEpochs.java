@@ -0,0 +1,90 @@
+package com.example.barointern.application.token;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.barointern.domain.entity.UserAuthEpoch;
+import com.example.barointern.domain.repository.UserRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+// 사용자별 권한 epoch (userId → epoch)
+// 권한이 바뀔 때마다 epoch 가 1 증가하고, 토큰에는 발급 당시의 epoch 가 들어간다.
+// 토큰의 epoch 가 현재 값보다 작으면 이전 권한으로 발급된 토큰이므로 거절한다.
+// 권한이 한 번도 바뀌지 않은 사용자(epoch 0)는 맵에 없으므로 맵 크기는 권한 변경 이력이 있는 사용자 수만큼이다.
+// 다른 서버에서 변경된 epoch 는 refresh-interval 마다 변경분만 읽어 반영한다.
+@Slf4j
+@Component
+public class AuthorizationEpochs {
+
+	private final UserRepository userRepository;
+	private final ConcurrentLongIntHashMap epochs;
+	private final Duration clockSkew;
+	private Instant lastRefreshedAt;  // refresh() 에서만 사용 (스케줄러 스레드 하나)
+
+	public AuthorizationEpochs(UserRepository userRepository,
+		MeterRegistry meterRegistry,
+		@Value("${auth-epoch.expected-size:1024}") int expectedSize,
+		@Value("${auth-epoch.clock-skew:5s}") Duration clockSkew) {
+		this.userRepository = userRepository;
+		this.epochs = new ConcurrentLongIntHashMap(expectedSize);
+		this.clockSkew = clockSkew;
+
+		Gauge.builder("auth.epoch.size", this, AuthorizationEpochs::size)
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void load() {
+		Instant startedAt = Instant.now();
+		int count = apply(userRepository.findAuthEpochsChangedSince(null));
+		lastRefreshedAt = startedAt;
+		log.info("권한 epoch 적재 완료 ({}명)", count);
+	}
+
+	// 마지막 조회 이후 변경분만 반영 (서버 간 시계 차이만큼 겹쳐서 조회)
+	@Scheduled(fixedDelayString = "${auth-epoch.refresh-interval:5s}")
+	public void refresh() {
+		Instant startedAt = Instant.now();
+		apply(userRepository.findAuthEpochsChangedSince(lastRefreshedAt.minus(clockSkew)));
+		lastRefreshedAt = startedAt;
+	}
+
+	// userId 가 0 이면 epoch claim 이 없는 이전 형식의 토큰이므로 검사하지 않는다.
+	public boolean isStale(long userId, int tokenEpoch) {
+		return userId > 0 && tokenEpoch < epochs.get(userId, 0);
+	}
+
+	public int currentEpoch(long userId) {
+		return epochs.get(userId, 0);
+	}
+
+	// 이 서버에서 권한을 변경한 경우 다음 refresh 를 기다리지 않고 바로 반영
+	public synchronized void advance(long userId, int epoch) {
+		if (epoch > epochs.get(userId, 0)) {
+			epochs.put(userId, epoch);
+		}
+	}
+
+	public synchronized int size() {
+		return epochs.size();
+	}
+
+	private synchronized int apply(Iterable<UserAuthEpoch> changes) {
+		int count = 0;
+		for (UserAuthEpoch change : changes) {
+			if (change.authEpoch() > epochs.get(change.id(), 0)) {
+				epochs.put(change.id(), change.authEpoch());
+			}
+			count++;
+		}
+		return count;
+	}
+}
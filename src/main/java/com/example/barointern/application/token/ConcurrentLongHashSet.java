@@ -0,0 +1,135 @@
+package com.example.barointern.application.token;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 양수 long 값만 담는 open addressing 해시 집합
+// contains 는 잠금/할당 없이 동작하고, add/remove 는 한 스레드(호출 측에서 동기화)만 수행한다고 가정한다.
+// 삭제는 tombstone 으로 표시하고, 빈 칸이 부족해지면 새 배열로 다시 만들어 교체한다. (읽는 쪽은 이전 배열을 계속 읽어도 안전)
+final class ConcurrentLongHashSet {
+
+	private static final long EMPTY = 0L;
+	private static final long REMOVED = -1L;
+	private static final int MIN_CAPACITY = 16;
+
+	private volatile AtomicLongArray table;
+	private int size;
+	private int removed;
+
+	ConcurrentLongHashSet(int expectedSize) {
+		this.table = new AtomicLongArray(capacityFor(expectedSize));
+	}
+
+	boolean contains(long value) {
+		AtomicLongArray current = table;
+		int mask = current.length() - 1;
+		int index = indexOf(value, mask);
+		while (true) {
+			long slot = current.get(index);
+			if (slot == value) {
+				return true;
+			}
+			if (slot == EMPTY) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	boolean add(long value) {
+		requirePositive(value);
+		if (contains(value)) {
+			return false;
+		}
+		// 사용 중 + tombstone 칸이 절반을 넘지 않도록 유지 (탐색이 항상 빈 칸에서 끝나도록)
+		if ((size + removed + 1) * 2 > table.length()) {
+			rebuild(capacityFor(size + 1));
+		}
+		AtomicLongArray current = table;
+		int mask = current.length() - 1;
+		int index = indexOf(value, mask);
+		while (true) {
+			long slot = current.get(index);
+			if (slot == EMPTY || slot == REMOVED) {
+				if (slot == REMOVED) {
+					removed--;
+				}
+				current.set(index, value);
+				size++;
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	boolean remove(long value) {
+		AtomicLongArray current = table;
+		int mask = current.length() - 1;
+		int index = indexOf(value, mask);
+		while (true) {
+			long slot = current.get(index);
+			if (slot == value) {
+				current.set(index, REMOVED);
+				size--;
+				removed++;
+				return true;
+			}
+			if (slot == EMPTY) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	int capacity() {
+		return table.length();
+	}
+
+	private void rebuild(int capacity) {
+		AtomicLongArray current = table;
+		AtomicLongArray rebuilt = new AtomicLongArray(capacity);
+		int mask = capacity - 1;
+		for (int i = 0; i < current.length(); i++) {
+			long value = current.get(i);
+			if (value == EMPTY || value == REMOVED) {
+				continue;
+			}
+			int index = indexOf(value, mask);
+			while (rebuilt.get(index) != EMPTY) {
+				index = (index + 1) & mask;
+			}
+			rebuilt.set(index, value);
+		}
+		removed = 0;
+		table = rebuilt;
+	}
+
+	// 2의 거듭제곱, 채움 비율 25% 에서 시작
+	private static int capacityFor(int expectedSize) {
+		long target = Math.max(MIN_CAPACITY, (long)expectedSize * 4);
+		if (target > (1 << 30)) {
+			throw new IllegalArgumentException("집합 크기가 너무 큽니다: " + expectedSize);
+		}
+		return Integer.highestOneBit((int)target - 1) << 1;
+	}
+
+	private static int indexOf(long value, int mask) {
+		// MurmurHash3 fmix64
+		long h = value;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return (int)h & mask;
+	}
+
+	private static void requirePositive(long value) {
+		if (value <= 0) {
+			throw new IllegalArgumentException("양수만 저장할 수 있습니다: " + value);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.example.barointern.application.token;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 양수 long 키 → int 값 open addressing 해시 맵 (삭제 없음)
+// get 은 잠금/할당 없이 동작하고, put 은 한 스레드(호출 측에서 동기화)만 수행한다고 가정한다.
+// 새 키는 값을 먼저 쓰고 키를 나중에 써서, 읽는 쪽이 키를 보면 값도 보이도록 한다.
+final class ConcurrentLongIntHashMap {
+
+	private static final long EMPTY = 0L;
+	private static final int MIN_CAPACITY = 16;
+
+	private volatile Table table;
+	private int size;
+
+	ConcurrentLongIntHashMap(int expectedSize) {
+		this.table = new Table(capacityFor(expectedSize));
+	}
+
+	// 키가 없으면 defaultValue
+	int get(long key, int defaultValue) {
+		Table current = table;
+		int mask = current.keys.length() - 1;
+		int index = indexOf(key, mask);
+		while (true) {
+			long slot = current.keys.get(index);
+			if (slot == key) {
+				return current.values.get(index);
+			}
+			if (slot == EMPTY) {
+				return defaultValue;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	void put(long key, int value) {
+		if (key <= 0) {
+			throw new IllegalArgumentException("양수 키만 저장할 수 있습니다: " + key);
+		}
+		if ((size + 1) * 2 > table.keys.length()) {
+			table = rebuild(table, capacityFor(size + 1));
+		}
+		Table current = table;
+		int mask = current.keys.length() - 1;
+		int index = indexOf(key, mask);
+		while (true) {
+			long slot = current.keys.get(index);
+			if (slot == key) {
+				current.values.set(index, value);
+				return;
+			}
+			if (slot == EMPTY) {
+				current.values.set(index, value);
+				current.keys.set(index, key);
+				size++;
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	private static Table rebuild(Table current, int capacity) {
+		Table rebuilt = new Table(capacity);
+		int mask = capacity - 1;
+		for (int i = 0; i < current.keys.length(); i++) {
+			long key = current.keys.get(i);
+			if (key == EMPTY) {
+				continue;
+			}
+			int index = indexOf(key, mask);
+			while (rebuilt.keys.get(index) != EMPTY) {
+				index = (index + 1) & mask;
+			}
+			rebuilt.values.set(index, current.values.get(i));
+			rebuilt.keys.set(index, key);
+		}
+		return rebuilt;
+	}
+
+	// 2의 거듭제곱, 채움 비율 25% 에서 시작
+	private static int capacityFor(int expectedSize) {
+		long target = Math.max(MIN_CAPACITY, (long)expectedSize * 4);
+		if (target > (1 << 30)) {
+			throw new IllegalArgumentException("맵 크기가 너무 큽니다: " + expectedSize);
+		}
+		return Integer.highestOneBit((int)target - 1) << 1;
+	}
+
+	private static int indexOf(long key, int mask) {
+		// MurmurHash3 fmix64
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return (int)h & mask;
+	}
+
+	private static final class Table {
+		final AtomicLongArray keys;
+		final AtomicIntegerArray values;
+
+		Table(int capacity) {
+			this.keys = new AtomicLongArray(capacity);
+			this.values = new AtomicIntegerArray(capacity);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.example.barointern.application.token;
+
+import java.time.Instant;
+
+// 저장소에 보관하는 리프레시 토큰 (원문 대신 SHA-256 해시만 저장)
+// loginAt 은 처음 로그인한 시각이며, 재발급해도 바뀌지 않는다. (최대 수명 계산에 사용)
+public record RefreshToken(String tokenHash, Long userId, String username, Instant loginAt, Instant expiresAt) {
+
+	public boolean isExpired(Instant now) {
+		return !expiresAt.isAfter(now);
+	}
+}
@@ -0,0 +1,13 @@
+package com.example.barointern.application.token;
+
+import java.util.Optional;
+
+public interface RefreshTokenStore {
+	void save(RefreshToken refreshToken);
+
+	// 토큰을 꺼내면서 동시에 삭제 (한 번만 사용 가능 → 재발급 시 회전)
+	Optional<RefreshToken> consume(String tokenHash);
+
+	// 만료된 토큰 정리
+	void purgeExpired();
+}
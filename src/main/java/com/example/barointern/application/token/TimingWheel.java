@@ -0,0 +1,70 @@
+package com.example.barointern.application.token;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+// 만료 시각별로 값을 모아 두는 timing wheel (동기화는 호출 측에서)
+// 한 칸은 tickMillis 동안 만료되는 값을 담고, advance 할 때 지나간 칸만 비운다.
+// 바퀴 한 바퀴보다 먼 만료 시각은 마지막 칸에 넣었다가 그 칸을 비울 때 다시 배치한다.
+final class TimingWheel {
+
+	private final long tickMillis;
+	private final long[][] values;
+	private final long[][] expiresAt;
+	private final int[] counts;
+	private long currentTick;
+	private int size;
+
+	TimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+		this.tickMillis = tickMillis;
+		this.values = new long[wheelSize][8];
+		this.expiresAt = new long[wheelSize][8];
+		this.counts = new int[wheelSize];
+		this.currentTick = nowMillis / tickMillis;
+	}
+
+	void add(long value, long expiresAtMillis) {
+		long tick = Math.max(expiresAtMillis / tickMillis, currentTick);
+		tick = Math.min(tick, currentTick + values.length - 1);
+		int slot = (int)(tick % values.length);
+
+		int count = counts[slot];
+		if (count == values[slot].length) {
+			values[slot] = Arrays.copyOf(values[slot], count * 2);
+			expiresAt[slot] = Arrays.copyOf(expiresAt[slot], count * 2);
+		}
+		values[slot][count] = value;
+		expiresAt[slot][count] = expiresAtMillis;
+		counts[slot] = count + 1;
+		size++;
+	}
+
+	// nowMillis 까지 만료된 값을 onExpire 로 넘기고 제거
+	void advance(long nowMillis, LongConsumer onExpire) {
+		while ((currentTick + 1) * tickMillis <= nowMillis) {
+			int slot = (int)(currentTick % values.length);
+			long[] slotValues = values[slot];
+			long[] slotExpiresAt = expiresAt[slot];
+			int count = counts[slot];
+
+			// 칸을 먼저 비우고, 아직 만료되지 않은 값은 다시 배치
+			values[slot] = new long[8];
+			expiresAt[slot] = new long[8];
+			counts[slot] = 0;
+			size -= count;
+			currentTick++;
+
+			for (int i = 0; i < count; i++) {
+				if (slotExpiresAt[i] <= nowMillis) {
+					onExpire.accept(slotValues[i]);
+				} else {
+					add(slotValues[i], slotExpiresAt[i]);
+				}
+			}
+		}
+	}
+
+	int size() {
+		return size;
+	}
+}
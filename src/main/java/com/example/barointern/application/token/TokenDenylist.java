@@ -0,0 +1,109 @@
+package com.example.barointern.application.token;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.barointern.domain.entity.RevokedToken;
+import com.example.barointern.domain.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+// 폐기된 액세스 토큰 ID(jti) 목록
+// 요청마다 호출되는 isRevoked 는 메모리 해시 집합만 조회한다. (DB 조회/객체 생성 없음)
+// 폐기 내역은 DB 에도 저장해 재시작 시 복원하고, 토큰이 어차피 만료되는 시각이 지나면 timing wheel 이 제거한다.
+// 다른 서버에서 폐기한 토큰은 refresh-interval 마다 변경분만 읽어 반영한다. (AuthorizationEpochs 와 같은 방식)
+@Slf4j
+@Component
+public class TokenDenylist {
+
+	private final RevokedTokenRepository revokedTokenRepository;
+	private final ConcurrentLongHashSet revokedIds;
+	private final TimingWheel expirations;
+	private final Duration clockSkew;
+	private Instant lastRefreshedAt;  // load/refresh 에서만 사용 (스케줄러 스레드 하나)
+
+	public TokenDenylist(RevokedTokenRepository revokedTokenRepository,
+		MeterRegistry meterRegistry,
+		@Value("${jwt.access-token-validity:30m}") Duration accessTokenValidity,
+		@Value("${jwt.revocation.tick:1m}") Duration tick,
+		@Value("${jwt.revocation.expected-size:1024}") int expectedSize,
+		@Value("${jwt.revocation.clock-skew:5s}") Duration clockSkew) {
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.clockSkew = clockSkew;
+		this.revokedIds = new ConcurrentLongHashSet(expectedSize);
+		// 바퀴 한 바퀴가 액세스 토큰 유효 시간을 덮도록 칸 수를 정한다.
+		int wheelSize = (int)(accessTokenValidity.toMillis() / tick.toMillis()) + 2;
+		this.expirations = new TimingWheel(tick.toMillis(), wheelSize, System.currentTimeMillis());
+
+		Gauge.builder("jwt.revoked.size", this, TokenDenylist::size)
+			.register(meterRegistry);
+	}
+
+	// 재시작 전 폐기된 토큰 복원 (요청을 받기 전에 끝나야 하므로 ApplicationReadyEvent 대신 초기화 시점에 적재)
+	@PostConstruct
+	public void load() {
+		Instant startedAt = Instant.now();
+		int count = apply(revokedTokenRepository.findAllByExpiresAtAfter(startedAt), startedAt);
+		lastRefreshedAt = startedAt;
+		log.info("폐기된 토큰 목록 적재 완료 ({}개)", count);
+	}
+
+	// 마지막 조회 이후 폐기된 토큰만 반영 (서버 간 시계 차이만큼 겹쳐서 조회)
+	@Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:5s}")
+	public void refresh() {
+		Instant startedAt = Instant.now();
+		apply(revokedTokenRepository.findAllByRevokedAtAfter(lastRefreshedAt.minus(clockSkew)), startedAt);
+		lastRefreshedAt = startedAt;
+	}
+
+	public boolean isRevoked(long tokenId) {
+		return tokenId > 0 && revokedIds.contains(tokenId);
+	}
+
+	public void revoke(long tokenId, Instant expiresAt) {
+		if (tokenId <= 0 || !expiresAt.isAfter(Instant.now())) {
+			return;  // jti 가 없는 토큰이거나 이미 만료된 토큰
+		}
+		revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt, Instant.now()));
+		register(tokenId, expiresAt.toEpochMilli());
+	}
+
+	@Scheduled(fixedDelayString = "${jwt.revocation.tick:1m}")
+	public void expire() {
+		expire(System.currentTimeMillis());
+		revokedTokenRepository.deleteExpired(Instant.now());
+	}
+
+	synchronized void expire(long nowMillis) {
+		expirations.advance(nowMillis, revokedIds::remove);
+	}
+
+	public synchronized int size() {
+		return revokedIds.size();
+	}
+
+	// 이미 만료된 토큰은 검증 단계에서 거절되므로 반영하지 않는다.
+	private int apply(Iterable<RevokedToken> revokedTokens, Instant now) {
+		int count = 0;
+		for (RevokedToken revokedToken : revokedTokens) {
+			if (revokedToken.getExpiresAt().isAfter(now)) {
+				register(revokedToken.getTokenId(), revokedToken.getExpiresAt().toEpochMilli());
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private synchronized void register(long tokenId, long expiresAtMillis) {
+		if (revokedIds.add(tokenId)) {
+			expirations.add(tokenId, expiresAtMillis);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.barointern.domain.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 폐기된 액세스 토큰 (재시작 시 복원하고, 다른 서버가 변경분을 읽어 메모리 denylist 에 반영하기 위해 저장)
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"),
+	@Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RevokedToken {
+
+	@Id
+	private Long tokenId;  // 토큰의 jti claim
+
+	@Column(nullable = false)
+	private Instant expiresAt;  // 토큰 만료 시각 (이후에는 보관할 필요 없음)
+
+	private Instant revokedAt;  // 폐기한 시각 (변경분 조회 기준, 컬럼 추가 전에 저장된 행은 null)
+}
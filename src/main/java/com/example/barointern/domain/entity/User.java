@@ -1,12 +1,17 @@
 package com.example.barointern.domain.entity;
 
+import java.time.Instant;
+
+import com.example.barointern.domain.id.TsidGenerated;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,27 +20,42 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(uniqueConstraints = {
+	@UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+	@UniqueConstraint(name = User.NICKNAME_CONSTRAINT, columnNames = "nickname")
+}, indexes = {
+	@Index(name = "idx_user_role_id", columnList = "role, id")  // 역할별 목록 조회 (keyset)
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class User {
 
+	// 중복 가입 시 어느 컬럼이 충돌했는지 구분하기 위해 제약 조건 이름을 고정
+	public static final String USERNAME_CONSTRAINT = "uk_user_username";
+	public static final String NICKNAME_CONSTRAINT = "uk_user_nickname";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TsidGenerated  // 시간 순 64비트 ID (INSERT 전에 생성되므로 JDBC batch 가능)
 	private Long id;
 
-	@Column(nullable = false, unique = true)
+	@Column(nullable = false)
 	private String username; // 로그인 ID
 
 	@Column(nullable = false)
-	private String password; // 비밀번호
+	private String password; // 비밀번호 ({id} 접두사 형식의 해시)
 
-	@Column(nullable = false, unique = true)
+	@Column(nullable = false)
 	private String nickname; // 닉네임
 
 	@Setter
 	@Enumerated(EnumType.STRING)
 	private Role role;
 
+	@Column(nullable = false)
+	private int authEpoch; // 권한 변경 횟수 (토큰의 epoch claim 과 비교해 이전 권한의 토큰을 거절)
+
+	private Instant authEpochChangedAt; // 마지막 권한 변경 시각 (다른 서버가 변경분만 읽어 가기 위해 사용)
+
 }
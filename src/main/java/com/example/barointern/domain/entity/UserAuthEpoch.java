@@ -0,0 +1,5 @@
+package com.example.barointern.domain.entity;
+
+// 사용자별 권한 epoch (토큰 검증 시 메모리에서 비교하기 위한 projection)
+public record UserAuthEpoch(Long id, int authEpoch) {
+}
@@ -0,0 +1,10 @@
+package com.example.barointern.domain.entity;
+
+// 로그인/토큰 발급에 필요한 값만 담은 읽기 전용 projection (영속성 컨텍스트에 등록되지 않음)
+public record UserCredentials(Long id, String username, String password, Role role, int authEpoch) {
+
+	public static UserCredentials from(User user) {
+		return new UserCredentials(user.getId(), user.getUsername(), user.getPassword(), user.getRole(),
+			user.getAuthEpoch());
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.barointern.domain.entity;
+
+import java.util.Locale;
+
+// username / nickname 의 고유성 비교 기준
+// MySQL 기본 collation 처럼 대소문자를 구분하지 않고 끝의 공백을 무시한다.
+// ("JIN HO", "jin ho", "JIN HO  " 는 같은 이름)
+public final class UserNames {
+
+	private UserNames() {
+	}
+
+	public static String uniqueKey(String name) {
+		return name.stripTrailing().toLowerCase(Locale.ROOT);
+	}
+}
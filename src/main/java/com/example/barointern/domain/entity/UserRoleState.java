@@ -0,0 +1,5 @@
+package com.example.barointern.domain.entity;
+
+// 역할 일괄 변경 시 대상 사용자의 현재 역할/권한 epoch 만 조회하는 projection
+public record UserRoleState(Long id, Role role, int authEpoch) {
+}
@@ -0,0 +1,5 @@
+package com.example.barointern.domain.entity;
+
+// 사용자 목록 조회용 projection (비밀번호 등 목록에 필요 없는 컬럼은 읽지 않음)
+public record UserSummary(Long id, String username, String nickname, Role role) {
+}
@@ -0,0 +1,17 @@
+package com.example.barointern.domain.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+// 엔티티 ID 를 애플리케이션에서 TSID 로 생성 (IDENTITY 와 달리 INSERT 전에 ID 를 알 수 있어 JDBC batch 가 가능)
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TsidGenerated {
+}
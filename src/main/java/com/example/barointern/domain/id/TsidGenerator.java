@@ -0,0 +1,59 @@
+package com.example.barointern.domain.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 시간 순으로 정렬되는 64비트 ID 생성기 (TSID / Snowflake 방식)
+// [ 42비트: 기준 시각 이후 밀리초 | 10비트: 노드 번호 | 12비트: 같은 밀리초 내 순번 ]
+// 상태(밀리초 + 순번)를 AtomicLong 하나에 담아 CAS 로 갱신하므로 락 없이 동시에 생성할 수 있다.
+public class TsidGenerator {
+
+	public static final int NODE_BITS = 10;
+	public static final int SEQUENCE_BITS = 12;
+	public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	// 기준 시각 2025-01-01T00:00:00Z (42비트로 약 139년 사용 가능)
+	private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+	private final long node;
+
+	// (기준 시각 이후 밀리초 << SEQUENCE_BITS) | 순번
+	private final AtomicLong state = new AtomicLong();
+
+	public TsidGenerator(int node) {
+		if (node < 0 || node > MAX_NODE) {
+			throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE + " 사이여야 합니다.");
+		}
+		this.node = node;
+	}
+
+	public long nextId() {
+		while (true) {
+			long now = System.currentTimeMillis() - EPOCH_MILLIS;
+			long last = state.get();
+			long lastMillis = last >>> SEQUENCE_BITS;
+
+			// 새 밀리초면 순번 0부터, 같은 밀리초(또는 시계가 뒤로 간 경우)면 순번 + 1
+			// 순번이 넘치면 밀리초 자리로 올림되어 다음 밀리초 값을 미리 사용한다. (단조 증가 유지)
+			long next = now > lastMillis ? now << SEQUENCE_BITS : last + 1;
+
+			if (state.compareAndSet(last, next)) {
+				long millis = next >>> SEQUENCE_BITS;
+				long sequence = next & SEQUENCE_MASK;
+				return (millis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+			}
+		}
+	}
+
+	// 주어진 시각 이후에 생성된 ID 는 모두 이 값 이상 (노드, 순번과 무관)
+	public static long minIdAt(Instant instant) {
+		long millis = Math.max(0, instant.toEpochMilli() - EPOCH_MILLIS);
+		return millis << (NODE_BITS + SEQUENCE_BITS);
+	}
+
+	public int getNode() {
+		return (int)node;
+	}
+}
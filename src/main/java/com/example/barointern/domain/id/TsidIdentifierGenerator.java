@@ -0,0 +1,33 @@
+package com.example.barointern.domain.id;
+
+import java.lang.reflect.Member;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+// Hibernate 가 @TsidGenerated 필드마다 생성한다. (스프링 빈이 아니므로 생성기를 직접 주입받을 수 없다)
+// 스프링 컨텍스트의 TsidGenerator 를 Hibernate 설정 값(GENERATOR_SETTING)으로 넘겨받아 사용한다.
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+	public static final String GENERATOR_SETTING = "barointern.id.tsid-generator";
+
+	private final TsidGenerator tsidGenerator;
+
+	public TsidIdentifierGenerator(TsidGenerated annotation, Member member, CustomIdGeneratorCreationContext context) {
+		Object generator = context.getServiceRegistry()
+			.requireService(ConfigurationService.class)
+			.getSettings()
+			.get(GENERATOR_SETTING);
+		if (!(generator instanceof TsidGenerator tsid)) {
+			throw new IllegalStateException("Hibernate 설정에 " + GENERATOR_SETTING + " (TsidGenerator) 가 없습니다.");
+		}
+		this.tsidGenerator = tsid;
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object object) {
+		return tsidGenerator.nextId();
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.barointern.domain.repository;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserCredentials;
+
+import reactor.core.publisher.Mono;
+
+// 리액티브 실행 모드에서 사용하는 저장소 (UserRepository 와 같은 테이블, 호출 스레드를 막지 않음)
+public interface ReactiveUserRepository {
+	Mono<User> findById(Long id);
+	Mono<UserCredentials> findCredentialsByUsername(String username);  // 로그인 전용
+	Mono<UserCredentials> findCredentialsById(Long id);  // 역할/권한 epoch 확인용
+	Mono<Boolean> existsByUsername(String username);
+	Mono<Boolean> existsByNickname(String nickname);
+	Mono<User> insert(User user);  // id 가 없으면 TSID 로 생성, 중복이면 DataIntegrityViolationException
+	Mono<Integer> updateRole(Long id, Role role);  // 권한 epoch 증가, 변경된 행 수 반환
+	Mono<Integer> updatePassword(Long id, String password);
+}
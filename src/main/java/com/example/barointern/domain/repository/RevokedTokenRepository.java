@@ -0,0 +1,13 @@
+package com.example.barointern.domain.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.example.barointern.domain.entity.RevokedToken;
+
+public interface RevokedTokenRepository {
+	RevokedToken save(RevokedToken revokedToken);
+	List<RevokedToken> findAllByExpiresAtAfter(Instant now);  // 아직 만료되지 않은 폐기 토큰
+	List<RevokedToken> findAllByRevokedAtAfter(Instant since);  // since 이후에 폐기된 토큰
+	int deleteExpired(Instant now);
+}
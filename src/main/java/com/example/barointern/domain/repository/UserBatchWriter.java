@@ -0,0 +1,10 @@
+package com.example.barointern.domain.repository;
+
+import java.util.List;
+
+import com.example.barointern.domain.entity.User;
+
+// 대량 INSERT 전용 저장소 (한 번의 batch 로 저장하고, 하나라도 실패하면 전체를 되돌린다)
+public interface UserBatchWriter {
+	void insertAll(List<User> users);
+}
@@ -0,0 +1,10 @@
+package com.example.barointern.domain.repository;
+
+import java.util.function.Consumer;
+
+import com.example.barointern.domain.entity.UserSummary;
+
+// 전체 사용자 순회 전용 저장소 (한 행씩 넘겨주며 전체 결과를 메모리에 올리지 않는다)
+public interface UserExportReader {
+	void forEachUser(Consumer<UserSummary> action);
+}
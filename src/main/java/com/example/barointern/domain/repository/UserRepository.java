@@ -1,14 +1,46 @@
 package com.example.barointern.domain.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.example.barointern.domain.entity.Role;
 import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserAuthEpoch;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.entity.UserRoleState;
+import com.example.barointern.domain.entity.UserSummary;
 
 public interface UserRepository {
 	Optional<User> findById(Long id);
 	Optional<User> findByUsername(String username);
 	Optional<User> findByNickname(String nickname);
+	Optional<UserCredentials> findCredentialsByUsername(String username);  // 로그인 전용 (엔티티 대신 projection)
+	Optional<UserCredentials> findCredentialsById(Long id);  // 토큰 재발급 전용 (항상 저장소에서 읽음, 캐시하지 않음)
 	boolean existsByUsername(String username);
 	boolean existsByNickname(String nickname);
 	User save(User user);
+	User saveAndFlush(User user);  // 즉시 INSERT/UPDATE 를 실행 (제약 조건 위반을 바로 확인)
+	int updateRole(Long id, Role role);  // 조회 없이 UPDATE 한 번으로 변경하고 권한 epoch 증가, 변경된 행 수 반환
+	int updatePassword(Long id, String password);
+	int updateRoles(Collection<Long> ids, Role role);  // 여러 사용자를 UPDATE 한 번으로 변경하고 권한 epoch 증가
 	void deleteAll();
+
+	// 주어진 이름 중 이미 사용 중인 것만 반환 (대량 등록 시 한 번에 중복 확인)
+	List<String> findExistingUsernames(Collection<String> usernames);
+	List<String> findExistingNicknames(Collection<String> nicknames);
+
+	// 전체 이름 순회 (트랜잭션 안에서 사용하고 반드시 close)
+	Stream<String> streamAllUsernames();
+	Stream<String> streamAllNicknames();
+
+	// since 이후 권한 epoch 가 바뀐 사용자 (since 가 null 이면 epoch 가 0 이 아닌 전체)
+	List<UserAuthEpoch> findAuthEpochsChangedSince(Instant since);
+
+	List<UserRoleState> findRoleStatesByIds(Collection<Long> ids);
+
+	// id 가 afterId 보다 큰 사용자를 id 순으로 최대 limit 명 (keyset 페이지네이션, role 이 null 이면 전체)
+	List<UserSummary> findSummaries(long afterId, Role role, int limit);
 }
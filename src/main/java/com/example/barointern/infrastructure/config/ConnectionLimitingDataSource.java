@@ -0,0 +1,90 @@
+package com.example.barointern.infrastructure.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// 커넥션을 동시에 가질 수 있는 스레드 수를 semaphore 로 제한하는 DataSource
+// 가상 스레드는 요청마다 하나씩 만들어지므로, 제한이 없으면 수천 개의 스레드가 커넥션 풀 앞에 몰린다.
+// 허용 수만큼만 풀에 접근하고 나머지는 가상 스레드 상태로(캐리어 스레드를 점유하지 않고) 기다린다.
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final Duration acquireTimeout;
+
+	public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration acquireTimeout) {
+		super(targetDataSource);
+		this.permits = new Semaphore(maxConnections, true);
+		this.acquireTimeout = acquireTimeout;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return releasingOnClose(super.getConnection());
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return releasingOnClose(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	public int availablePermits() {
+		return permits.availablePermits();
+	}
+
+	private void acquire() throws SQLException {
+		try {
+			if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new SQLTransientConnectionException(
+					"DB 커넥션 대기 시간을 초과했습니다. (" + acquireTimeout.toMillis() + "ms)");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("DB 커넥션 대기 중 중단되었습니다.", e);
+		}
+	}
+
+	// close() 가 여러 번 호출되어도 허용 수는 한 번만 반환
+	private Connection releasingOnClose(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+			(proxy, method, args) -> {
+				if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					} finally {
+						permits.release();
+					}
+				}
+				try {
+					return method.invoke(connection, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			});
+	}
+}
@@ -0,0 +1,30 @@
+package com.example.barointern.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.barointern.domain.id.TsidGenerator;
+import com.example.barointern.domain.id.TsidIdentifierGenerator;
+
+// 서버마다 다른 노드 번호를 지정해야 여러 서버에서 생성한 ID 가 겹치지 않는다.
+// 기본값을 두면 모든 서버가 같은 노드 번호로 뜰 수 있으므로 id.node 는 반드시 지정해야 한다.
+@Configuration
+public class IdGeneratorConfig {
+
+	@Bean
+	public TsidGenerator tsidGenerator(@Value("${id.node:#{null}}") Integer node) {
+		if (node == null) {
+			throw new IllegalStateException("id.node (0 ~ " + TsidGenerator.MAX_NODE
+				+ ") 를 서버마다 다르게 지정해야 합니다. (예: ID_NODE=1 또는 --id.node=1)");
+		}
+		return new TsidGenerator(node);
+	}
+
+	// JPA 엔티티 ID 도 같은 생성기를 사용하도록 Hibernate 설정으로 넘긴다.
+	@Bean
+	public HibernatePropertiesCustomizer tsidGeneratorHibernateCustomizer(TsidGenerator tsidGenerator) {
+		return properties -> properties.put(TsidIdentifierGenerator.GENERATOR_SETTING, tsidGenerator);
+	}
+}
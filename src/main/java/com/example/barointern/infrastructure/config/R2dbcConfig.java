@@ -0,0 +1,22 @@
+package com.example.barointern.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+// 리액티브 실행 모드 전용. ConnectionFactory 는 spring.r2dbc.* 설정으로 자동 구성된다.
+// (R2DBC 트랜잭션 매니저는 JPA 트랜잭션 매니저와 충돌하므로 등록하지 않고, 저장소는 단일 SQL 만 실행한다)
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class R2dbcConfig {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+		return DatabaseClient.create(connectionFactory);
+	}
+}
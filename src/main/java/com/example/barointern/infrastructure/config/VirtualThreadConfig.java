@@ -0,0 +1,45 @@
+package com.example.barointern.infrastructure.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+// spring.threads.virtual.enabled=true (virtual 프로필) 일 때만 적용
+// BCrypt 같은 CPU 작업은 BoundedPasswordHasher 의 플랫폼 스레드 풀에서 그대로 실행된다.
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+	private static final int DEFAULT_POOL_SIZE = 10;
+
+	@Bean
+	public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+		@Value("${virtual-threads.connection-permits:0}") int connectionPermits,
+		@Value("${virtual-threads.acquire-timeout:30s}") Duration acquireTimeout) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+				if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+					return bean;
+				}
+				int permits = connectionPermits > 0 ? connectionPermits
+					: bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+				log.info("가상 스레드 모드: DB 커넥션 동시 사용 수 {}개로 제한 ({})", permits, beanName);
+				return new ConnectionLimitingDataSource(dataSource, permits, acquireTimeout);
+			}
+		};
+	}
+}
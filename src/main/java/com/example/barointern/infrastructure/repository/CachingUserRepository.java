@@ -0,0 +1,263 @@
+package com.example.barointern.infrastructure.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserAuthEpoch;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.entity.UserRoleState;
+import com.example.barointern.domain.entity.UserSummary;
+import com.example.barointern.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// UserRepository 앞단의 read-through 캐시 (W-TinyLFU 제거 정책, 크기 제한)
+// 사용자는 id 기준으로 한 곳에만 보관하고, username → id 색인을 따로 둔다.
+// 따라서 id 하나만 무효화하면 두 색인 모두에서 사라진다.
+// 로그인/재발급에 쓰는 UserCredentials 는 캐시하지 않는다. 다른 서버에서 바뀐 역할/권한 epoch/비밀번호가
+// 만료 시간 동안 반영되지 않으면 이전 epoch 로 발급한 토큰이 바로 거절되기 때문이다. (로그인은 BCrypt 가 병목)
+// JPA 엔티티는 변경 가능하므로 캐시에는 불변 스냅샷(CachedUser)을 두고, 조회할 때마다 새 User 로 복사해 돌려준다.
+// 변경 시에는 바로 무효화하고, 트랜잭션 안이면 완료(커밋/롤백) 후에 한 번 더 무효화한다.
+// user-cache.enabled=false 로 프로필별로 끌 수 있다.
+@Primary
+@Repository
+@ConditionalOnProperty(name = "user-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingUserRepository implements UserRepository {
+
+	// JpaRepository 의 제네릭 메서드와 겹치지 않도록 도메인 인터페이스 타입으로 보관
+	private final UserRepository delegate;
+	private final Cache<Long, CachedUser> usersById;
+	private final Cache<String, Long> idsByUsername;
+
+	public CachingUserRepository(UserJpaRepository delegate,
+		MeterRegistry meterRegistry,
+		@Value("${user-cache.maximum-size:10000}") long maximumSize,
+		@Value("${user-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+		this.delegate = delegate;
+		this.usersById = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expireAfterWrite)  // 다른 서버에서 변경된 내용이 반영되는 최대 지연
+			.recordStats()
+			.build();
+		this.idsByUsername = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expireAfterWrite)
+			.recordStats()
+			.build();
+
+		// 적중률(cache.gets), 로딩 시간(cache.load.duration) 등
+		CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users", "index", "id");
+		CaffeineCacheMetrics.monitor(meterRegistry, idsByUsername, "users", "index", "username");
+	}
+
+	@Override
+	public Optional<User> findById(Long id) {
+		CachedUser cached = usersById.getIfPresent(id);
+		if (cached != null) {
+			return Optional.of(cached.toUser());
+		}
+		return delegate.findById(id).map(this::cache);
+	}
+
+	@Override
+	public Optional<User> findByUsername(String username) {
+		CachedUser cached = cachedByUsername(username);
+		if (cached != null) {
+			return Optional.of(cached.toUser());
+		}
+		return delegate.findByUsername(username).map(this::cache);
+	}
+
+	@Override
+	public Optional<User> findByNickname(String nickname) {
+		return delegate.findByNickname(nickname);
+	}
+
+	// 로그인은 현재 비밀번호/역할/권한 epoch 로 해야 하므로 캐시를 거치지 않는다.
+	@Override
+	public Optional<UserCredentials> findCredentialsByUsername(String username) {
+		return delegate.findCredentialsByUsername(username);
+	}
+
+	// 재발급도 같은 이유로 캐시를 거치지 않는다.
+	@Override
+	public Optional<UserCredentials> findCredentialsById(Long id) {
+		return delegate.findCredentialsById(id);
+	}
+
+	@Override
+	public boolean existsByUsername(String username) {
+		return cachedByUsername(username) != null || delegate.existsByUsername(username);
+	}
+
+	@Override
+	public boolean existsByNickname(String nickname) {
+		return delegate.existsByNickname(nickname);
+	}
+
+	// 저장한 엔티티는 호출한 쪽에서 계속 변경할 수 있으므로 캐시에 올리지 않고 무효화만 한다.
+	@Override
+	public User save(User user) {
+		User saved = delegate.save(user);
+		evict(List.of(saved.getId()));
+		return saved;
+	}
+
+	@Override
+	public User saveAndFlush(User user) {
+		User saved = delegate.saveAndFlush(user);
+		evict(List.of(saved.getId()));
+		return saved;
+	}
+
+	@Override
+	public int updateRole(Long id, Role role) {
+		int updated = delegate.updateRole(id, role);
+		evict(List.of(id));
+		return updated;
+	}
+
+	@Override
+	public int updatePassword(Long id, String password) {
+		int updated = delegate.updatePassword(id, password);
+		evict(List.of(id));
+		return updated;
+	}
+
+	@Override
+	public int updateRoles(Collection<Long> ids, Role role) {
+		int updated = delegate.updateRoles(ids, role);
+		evict(List.copyOf(ids));
+		return updated;
+	}
+
+	@Override
+	public void deleteAll() {
+		delegate.deleteAll();
+		usersById.invalidateAll();
+		idsByUsername.invalidateAll();
+	}
+
+	@Override
+	public List<String> findExistingUsernames(Collection<String> usernames) {
+		return delegate.findExistingUsernames(usernames);
+	}
+
+	@Override
+	public List<String> findExistingNicknames(Collection<String> nicknames) {
+		return delegate.findExistingNicknames(nicknames);
+	}
+
+	@Override
+	public Stream<String> streamAllUsernames() {
+		return delegate.streamAllUsernames();
+	}
+
+	@Override
+	public Stream<String> streamAllNicknames() {
+		return delegate.streamAllNicknames();
+	}
+
+	@Override
+	public List<UserAuthEpoch> findAuthEpochsChangedSince(Instant since) {
+		return delegate.findAuthEpochsChangedSince(since);
+	}
+
+	@Override
+	public List<UserRoleState> findRoleStatesByIds(Collection<Long> ids) {
+		return delegate.findRoleStatesByIds(ids);
+	}
+
+	@Override
+	public List<UserSummary> findSummaries(long afterId, Role role, int limit) {
+		return delegate.findSummaries(afterId, role, limit);
+	}
+
+	// username 색인이 가리키는 사용자가 아직 캐시에 있고 이름이 같을 때만 사용
+	private CachedUser cachedByUsername(String username) {
+		Long id = idsByUsername.getIfPresent(username);
+		if (id == null) {
+			return null;
+		}
+		CachedUser user = usersById.getIfPresent(id);
+		return user != null && user.username().equals(username) ? user : null;
+	}
+
+	// 조회한 엔티티의 스냅샷을 캐시에 올리고, 호출한 쪽에는 캐시와 공유하지 않는 복사본을 돌려준다.
+	// 쓰기 트랜잭션 안에서 읽은 값은 커밋 전일 수 있으므로 캐시에 올리지 않는다.
+	private User cache(User user) {
+		CachedUser cached = CachedUser.of(user);
+		if (!inWriteTransaction()) {
+			usersById.put(cached.id(), cached);
+			idsByUsername.put(cached.username(), cached.id());
+		}
+		return cached.toUser();
+	}
+
+	// 바로 무효화하고, 트랜잭션 안이면 완료 후에 한 번 더 무효화
+	// (커밋 전에 다른 스레드가 이전 값을 다시 읽어 캐시에 올려도 커밋 후에는 지워진다)
+	private void evict(List<Long> ids) {
+		evictNow(ids);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evictNow(ids);
+				}
+			});
+		}
+	}
+
+	private void evictNow(List<Long> ids) {
+		for (Long id : ids) {
+			CachedUser cached = usersById.asMap().get(id);  // 통계에 포함하지 않는 조회
+			if (cached != null) {
+				idsByUsername.invalidate(cached.username());
+			}
+		}
+		usersById.invalidateAll(ids);
+	}
+
+	private static boolean inWriteTransaction() {
+		return TransactionSynchronizationManager.isActualTransactionActive()
+			&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	// 캐시에 보관하는 사용자 스냅샷 (불변)
+	private record CachedUser(Long id, String username, String password, String nickname, Role role,
+		int authEpoch, Instant authEpochChangedAt) {
+
+		static CachedUser of(User user) {
+			return new CachedUser(user.getId(), user.getUsername(), user.getPassword(), user.getNickname(),
+				user.getRole(), user.getAuthEpoch(), user.getAuthEpochChangedAt());
+		}
+
+		User toUser() {
+			return User.builder()
+				.id(id)
+				.username(username)
+				.password(password)
+				.nickname(nickname)
+				.role(role)
+				.authEpoch(authEpoch)
+				.authEpochChangedAt(authEpochChangedAt)
+				.build();
+		}
+	}
+}
@@ -0,0 +1,588 @@
+package com.example.barointern.infrastructure.repository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserAuthEpoch;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.entity.UserNames;
+import com.example.barointern.domain.entity.UserRoleState;
+import com.example.barointern.domain.entity.UserSummary;
+import com.example.barointern.domain.id.TsidGenerator;
+import com.example.barointern.domain.repository.UserBatchWriter;
+import com.example.barointern.domain.repository.UserExportReader;
+import com.example.barointern.domain.repository.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 메모리 기반 사용자 저장소 (memory 프로필, DB 조회 없이 해시 색인에서 바로 조회)
+//   id → User (기본 색인), username → id, nickname → id (보조 색인), id 정렬 집합 (목록/내보내기)
+// 중복 확인은 보조 색인의 putIfAbsent 로 이름을 먼저 "예약"해서 원자적으로 처리한다. (전역 잠금 없음)
+// 보조 색인의 키는 UserNames.uniqueKey 로 정규화한다. (MySQL 기본 collation 처럼 대소문자/끝 공백 무시)
+// 저장된 User 는 바꾸지 않고 변경 시 새 객체로 교체한다.
+//
+// 변경 내역은 로그 파일 끝에 한 줄씩 추가하고 (사용자 전체 값), 주기적으로 전체를 스냅샷으로 기록한다.
+//   U <seq> <id> <username> <password> <nickname> <role> <authEpoch> <authEpochChangedAt(epoch ms) | ->   (문자열은 Base64URL)
+//   D                                                                                            전체 삭제
+// seq 는 compute 안에서 (같은 id 의 변경 순서대로) 발급하고, 로그 기록은 compute 밖에서 한다.
+// 따라서 같은 id 의 줄이 파일에서 뒤바뀔 수 있으며, 재시작 시에는 id 마다 seq 가 가장 큰 줄을 적용한다.
+// 재시작 시 스냅샷 → 이전 로그 (스냅샷 도중 종료된 경우) → 현재 로그 순서로 읽는다.
+@Slf4j
+@Primary
+@Repository
+@Profile("memory")
+public class InMemoryUserRepository implements UserRepository, UserBatchWriter, UserExportReader {
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final ConcurrentHashMap<Long, User> usersById = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Long> idsByUsername = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Long> idsByNickname = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListSet<Long> orderedIds = new ConcurrentSkipListSet<>();
+	private final AtomicLong sequence = new AtomicLong();  // 로그 줄 순서 (재시작 시 로그의 최댓값부터 이어감)
+
+	private final TsidGenerator tsidGenerator;
+	private final Path snapshotFile;
+	private final Path logFile;
+	private final Path previousLogFile;
+
+	// 변경 작업은 메모리 반영과 로그 기록 동안 읽기 잠금을 함께 잡고 (서로 막지 않음),
+	// 스냅샷은 로그 파일을 바꾸는 순간에만 쓰기 잠금을 잡는다.
+	// 로그 교체 전에 끝난 변경은 스냅샷에, 이후에 시작된 변경은 새 로그에 반드시 들어간다.
+	private final ReadWriteLock rotationLock = new ReentrantReadWriteLock();
+
+	// 아래 필드는 logMonitor 로 동기화 (스냅샷 중복 실행은 this 로 막는다)
+	private final Object logMonitor = new Object();
+	private BufferedWriter writer;
+
+	public InMemoryUserRepository(TsidGenerator tsidGenerator,
+		@Value("${user-store.memory.directory:data/users}") Path directory) throws IOException {
+		this.tsidGenerator = tsidGenerator;
+		this.snapshotFile = directory.resolve("users.snapshot");
+		this.logFile = directory.resolve("users.log");
+		this.previousLogFile = directory.resolve("users.log.1");
+
+		Files.createDirectories(directory);
+		recover();
+		synchronized (logMonitor) {
+			writer = openLog();
+		}
+		snapshot();
+	}
+
+	@Override
+	public Optional<User> findById(Long id) {
+		return Optional.ofNullable(usersById.get(id));
+	}
+
+	@Override
+	public Optional<User> findByUsername(String username) {
+		String key = UserNames.uniqueKey(username);
+		return Optional.ofNullable(lookup(idsByUsername, key))
+			.filter(user -> UserNames.uniqueKey(user.getUsername()).equals(key));
+	}
+
+	@Override
+	public Optional<User> findByNickname(String nickname) {
+		String key = UserNames.uniqueKey(nickname);
+		return Optional.ofNullable(lookup(idsByNickname, key))
+			.filter(user -> UserNames.uniqueKey(user.getNickname()).equals(key));
+	}
+
+	@Override
+	public Optional<UserCredentials> findCredentialsByUsername(String username) {
+		return findByUsername(username).map(UserCredentials::from);
+	}
+
+	@Override
+	public Optional<UserCredentials> findCredentialsById(Long id) {
+		return findById(id).map(UserCredentials::from);
+	}
+
+	@Override
+	public boolean existsByUsername(String username) {
+		return idsByUsername.containsKey(UserNames.uniqueKey(username));  // 저장 중인 (예약된) 이름도 사용 중으로 본다
+	}
+
+	@Override
+	public boolean existsByNickname(String nickname) {
+		return idsByNickname.containsKey(UserNames.uniqueKey(nickname));
+	}
+
+	@Override
+	public User save(User user) {
+		User stored = user.getId() == null ? withId(user, tsidGenerator.nextId()) : user;
+		User previous = usersById.get(stored.getId());
+		if (previous == null) {
+			insertAll(List.of(stored));
+			return stored;
+		}
+		replace(previous, stored);
+		return stored;
+	}
+
+	@Override
+	public User saveAndFlush(User user) {
+		return save(user);  // 메모리 저장소는 바로 반영되므로 save 와 같음
+	}
+
+	@Override
+	public int updateRole(Long id, Role role) {
+		Instant now = Instant.now();
+		return update(id, user -> User.builder()
+			.id(user.getId())
+			.username(user.getUsername())
+			.password(user.getPassword())
+			.nickname(user.getNickname())
+			.role(role)
+			.authEpoch(user.getAuthEpoch() + 1)
+			.authEpochChangedAt(now)
+			.build());
+	}
+
+	@Override
+	public int updatePassword(Long id, String password) {
+		return update(id, user -> User.builder()
+			.id(user.getId())
+			.username(user.getUsername())
+			.password(password)
+			.nickname(user.getNickname())
+			.role(user.getRole())
+			.authEpoch(user.getAuthEpoch())
+			.authEpochChangedAt(user.getAuthEpochChangedAt())
+			.build());
+	}
+
+	@Override
+	public int updateRoles(Collection<Long> ids, Role role) {
+		int updated = 0;
+		for (Long id : ids) {
+			updated += updateRole(id, role);
+		}
+		return updated;
+	}
+
+	@Override
+	public void deleteAll() {
+		rotationLock.writeLock().lock();
+		try {
+			usersById.clear();
+			idsByUsername.clear();
+			idsByNickname.clear();
+			orderedIds.clear();
+			append("D");
+		} finally {
+			rotationLock.writeLock().unlock();
+		}
+	}
+
+	// 모든 이름을 먼저 예약하고, 하나라도 이미 있으면 이번에 예약한 것만 되돌린 뒤 실패 (전부 저장되거나 전부 실패)
+	@Override
+	public void insertAll(List<User> users) {
+		List<User> reserved = new ArrayList<>(users.size());
+		try {
+			for (User user : users) {
+				User stored = user.getId() == null ? withId(user, tsidGenerator.nextId()) : user;
+				if (usersById.containsKey(stored.getId())) {
+					throw new DuplicateKeyException("Duplicate entry '" + stored.getId() + "' for key 'PRIMARY'");
+				}
+				reserve(stored);
+				reserved.add(stored);
+			}
+		} catch (DuplicateKeyException e) {
+			reserved.forEach(this::release);
+			throw e;
+		}
+
+		rotationLock.readLock().lock();
+		try {
+			for (User user : reserved) {
+				long[] seq = new long[1];
+				usersById.compute(user.getId(), (id, existing) -> {
+					seq[0] = sequence.incrementAndGet();
+					return user;
+				});
+				orderedIds.add(user.getId());
+				append(line(seq[0], user));
+			}
+		} finally {
+			rotationLock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void forEachUser(Consumer<UserSummary> action) {
+		for (Long id : orderedIds) {
+			User user = usersById.get(id);
+			if (user != null) {
+				action.accept(summaryOf(user));
+			}
+		}
+	}
+
+	@Override
+	public List<String> findExistingUsernames(Collection<String> usernames) {
+		return usernames.stream().filter(this::existsByUsername).toList();
+	}
+
+	@Override
+	public List<String> findExistingNicknames(Collection<String> nicknames) {
+		return nicknames.stream().filter(this::existsByNickname).toList();
+	}
+
+	// 정규화된 이름을 돌려준다. (TakenNameFilter 가 같은 방식으로 정규화하므로 그대로 사용 가능)
+	@Override
+	public Stream<String> streamAllUsernames() {
+		return idsByUsername.keySet().stream();
+	}
+
+	@Override
+	public Stream<String> streamAllNicknames() {
+		return idsByNickname.keySet().stream();
+	}
+
+	@Override
+	public List<UserAuthEpoch> findAuthEpochsChangedSince(Instant since) {
+		return usersById.values().stream()
+			.filter(user -> since == null
+				? user.getAuthEpoch() > 0
+				: user.getAuthEpochChangedAt() != null && user.getAuthEpochChangedAt().isAfter(since))
+			.map(user -> new UserAuthEpoch(user.getId(), user.getAuthEpoch()))
+			.toList();
+	}
+
+	@Override
+	public List<UserRoleState> findRoleStatesByIds(Collection<Long> ids) {
+		return ids.stream()
+			.map(usersById::get)
+			.filter(Objects::nonNull)
+			.map(user -> new UserRoleState(user.getId(), user.getRole(), user.getAuthEpoch()))
+			.toList();
+	}
+
+	@Override
+	public List<UserSummary> findSummaries(long afterId, Role role, int limit) {
+		List<UserSummary> summaries = new ArrayList<>(Math.min(limit, 1024));
+		for (Long id : orderedIds.tailSet(afterId, false)) {
+			if (summaries.size() >= limit) {
+				break;
+			}
+			User user = usersById.get(id);
+			if (user != null && (role == null || user.getRole() == role)) {
+				summaries.add(summaryOf(user));
+			}
+		}
+		return summaries;
+	}
+
+	// 로그 파일을 새로 시작하고, 그 시점까지의 전체 사용자를 스냅샷으로 기록한 뒤 이전 로그 삭제
+	@Scheduled(initialDelayString = "${user-store.memory.snapshot-interval:5m}",
+		fixedDelayString = "${user-store.memory.snapshot-interval:5m}")
+	public synchronized void snapshot() {
+		try {
+			rotationLock.writeLock().lock();
+			try {
+				synchronized (logMonitor) {
+					closeLog();
+					rotateLog();
+					writer = openLog();
+				}
+			} finally {
+				rotationLock.writeLock().unlock();
+			}
+
+			// 기록하는 동안의 변경은 새 로그에도 있으므로 재시작 시 다시 적용된다. (사용자 전체 값이라 중복 적용해도 같음)
+			long count = UserSnapshot.write(snapshotFile, () -> orderedIds.stream()
+				.map(usersById::get)
+				.filter(Objects::nonNull)
+				.iterator());
+			Files.deleteIfExists(previousLogFile);
+			log.debug("사용자 스냅샷 기록 완료 ({}명)", count);
+		} catch (IOException e) {
+			throw new UncheckedIOException("사용자 스냅샷 기록에 실패했습니다.", e);
+		}
+	}
+
+	@PreDestroy
+	public synchronized void close() throws IOException {
+		closeLog();
+	}
+
+	private User lookup(ConcurrentHashMap<String, Long> index, String key) {
+		Long id = index.get(key);
+		return id == null ? null : usersById.get(id);
+	}
+
+	// compute 안에서는 새 값과 seq 만 정하고, 로그 기록(파일 쓰기)은 bin 잠금을 놓은 뒤에 한다.
+	private int update(Long id, UnaryOperator<User> change) {
+		rotationLock.readLock().lock();
+		try {
+			long[] seq = new long[1];
+			User updated = usersById.computeIfPresent(id, (key, user) -> {
+				seq[0] = sequence.incrementAndGet();
+				return change.apply(user);
+			});
+			if (updated == null) {
+				return 0;
+			}
+			append(line(seq[0], updated));
+			return 1;
+		} finally {
+			rotationLock.readLock().unlock();
+		}
+	}
+
+	// 기존 사용자 전체 교체 (이름이 바뀌면 새 이름을 먼저 예약하고 저장 후 이전 이름 해제)
+	// (대소문자만 바뀐 경우는 정규화한 키가 같으므로 다시 예약하지 않는다)
+	private void replace(User previous, User user) {
+		String previousUsername = UserNames.uniqueKey(previous.getUsername());
+		String previousNickname = UserNames.uniqueKey(previous.getNickname());
+		String username = UserNames.uniqueKey(user.getUsername());
+		String nickname = UserNames.uniqueKey(user.getNickname());
+		boolean usernameChanged = !previousUsername.equals(username);
+		boolean nicknameChanged = !previousNickname.equals(nickname);
+		if (usernameChanged) {
+			reserveName(idsByUsername, user.getUsername(), user.getId(), User.USERNAME_CONSTRAINT);
+		}
+		if (nicknameChanged) {
+			try {
+				reserveName(idsByNickname, user.getNickname(), user.getId(), User.NICKNAME_CONSTRAINT);
+			} catch (DuplicateKeyException e) {
+				if (usernameChanged) {
+					idsByUsername.remove(username, user.getId());
+				}
+				throw e;
+			}
+		}
+
+		update(user.getId(), existing -> user);
+
+		if (usernameChanged) {
+			idsByUsername.remove(previousUsername, previous.getId());
+		}
+		if (nicknameChanged) {
+			idsByNickname.remove(previousNickname, previous.getId());
+		}
+	}
+
+	private void reserve(User user) {
+		reserveName(idsByUsername, user.getUsername(), user.getId(), User.USERNAME_CONSTRAINT);
+		try {
+			reserveName(idsByNickname, user.getNickname(), user.getId(), User.NICKNAME_CONSTRAINT);
+		} catch (DuplicateKeyException e) {
+			idsByUsername.remove(UserNames.uniqueKey(user.getUsername()), user.getId());
+			throw e;
+		}
+	}
+
+	private void release(User user) {
+		idsByUsername.remove(UserNames.uniqueKey(user.getUsername()), user.getId());
+		idsByNickname.remove(UserNames.uniqueKey(user.getNickname()), user.getId());
+	}
+
+	// DB 와 같이 제약 조건 이름을 메시지에 담아 UniqueConstraintViolations 가 그대로 판별할 수 있게 한다.
+	private static void reserveName(ConcurrentHashMap<String, Long> index, String name, Long id, String constraint) {
+		Long owner = index.putIfAbsent(UserNames.uniqueKey(name), id);
+		if (owner != null && !owner.equals(id)) {
+			throw new DuplicateKeyException("Duplicate entry '" + name + "' for key '" + constraint + "'");
+		}
+	}
+
+	private void append(String line) {
+		synchronized (logMonitor) {
+			try {
+				writer.write(line);
+				writer.newLine();
+				writer.flush();  // OS 버퍼까지만 기록 (fsync 하지 않음)
+			} catch (IOException e) {
+				throw new UncheckedIOException("사용자 로그 기록에 실패했습니다.", e);
+			}
+		}
+	}
+
+	private void recover() throws IOException {
+		if (Files.exists(snapshotFile)) {
+			long count = UserSnapshot.read(snapshotFile, this::restore);
+			log.info("사용자 스냅샷 읽기 완료 ({}명)", count);
+		}
+		// id 별로 적용한 가장 큰 seq (스냅샷 값은 어떤 로그 줄보다도 오래된 것으로 본다)
+		Map<Long, Long> appliedSeqs = new HashMap<>();
+		replay(previousLogFile, appliedSeqs);
+		replay(logFile, appliedSeqs);
+	}
+
+	private void replay(Path file, Map<Long, Long> appliedSeqs) throws IOException {
+		if (!Files.exists(file)) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split(" ");
+				if (fields.length == 9 && fields[0].equals("U")) {
+					long seq = Long.parseLong(fields[1]);
+					User user = parseUser(fields, 2);
+					if (seq > appliedSeqs.getOrDefault(user.getId(), 0L)) {
+						restore(user);
+						appliedSeqs.put(user.getId(), seq);
+					}
+					if (seq > sequence.get()) {
+						sequence.set(seq);
+					}
+				} else if (fields.length == 8 && fields[0].equals("U")) {
+					restore(parseUser(fields, 1));  // seq 가 없는 이전 형식 (compute 안에서 기록했으므로 파일 순서 = 변경 순서)
+				} else if (fields.length == 1 && fields[0].equals("D")) {
+					usersById.clear();
+					idsByUsername.clear();
+					idsByNickname.clear();
+					orderedIds.clear();
+					appliedSeqs.clear();
+				}
+				// 마지막 줄이 중간에 잘린 경우 등 형식이 맞지 않는 줄은 무시
+			}
+		}
+	}
+
+	// fields[from] 부터 id, username, password, nickname, role, authEpoch, authEpochChangedAt
+	private static User parseUser(String[] fields, int from) {
+		String changedAt = fields[from + 6];
+		return User.builder()
+			.id(Long.valueOf(fields[from]))
+			.username(decode(fields[from + 1]))
+			.password(decode(fields[from + 2]))
+			.nickname(decode(fields[from + 3]))
+			.role(Role.valueOf(fields[from + 4]))
+			.authEpoch(Integer.parseInt(fields[from + 5]))
+			.authEpochChangedAt(changedAt.equals("-") ? null : Instant.ofEpochMilli(Long.parseLong(changedAt)))
+			.build();
+	}
+
+	// 시작 시 단일 스레드에서만 호출 (같은 id 를 다시 읽으면 이전 이름 색인을 정리)
+	private void restore(User user) {
+		User previous = usersById.put(user.getId(), user);
+		if (previous != null) {
+			idsByUsername.remove(UserNames.uniqueKey(previous.getUsername()), previous.getId());
+			idsByNickname.remove(UserNames.uniqueKey(previous.getNickname()), previous.getId());
+		}
+		idsByUsername.put(UserNames.uniqueKey(user.getUsername()), user.getId());
+		idsByNickname.put(UserNames.uniqueKey(user.getNickname()), user.getId());
+		orderedIds.add(user.getId());
+	}
+
+	// 이전 스냅샷이 기록 도중 실패해 이전 로그가 남아 있으면 덮어쓰지 않고 현재 로그를 뒤에 이어 붙인다.
+	// 이전 로그는 새 스냅샷이 제자리에 옮겨진 뒤에만 삭제되므로 그 전에 중단돼도 변경이 사라지지 않는다.
+	private void rotateLog() throws IOException {
+		if (!Files.exists(previousLogFile)) {
+			Files.move(logFile, previousLogFile, StandardCopyOption.ATOMIC_MOVE);
+			return;
+		}
+		try (FileChannel target = FileChannel.open(previousLogFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			FileChannel source = FileChannel.open(logFile, StandardOpenOption.READ)) {
+			long position = target.size();
+			if (position > 0 && !endsWithNewline(target, position)) {
+				// 마지막 줄이 중간에 잘렸으면 줄을 바꿔서 이어 붙인 첫 줄이 잘린 줄과 합쳐지지 않게 한다.
+				position += target.write(ByteBuffer.wrap(new byte[] {'\n'}), position);
+			}
+			target.position(position);
+			long size = source.size();
+			for (long copied = 0; copied < size; ) {
+				copied += source.transferTo(copied, size - copied, target);
+			}
+			target.force(true);
+		}
+		// 여기서 중단되면 같은 줄이 두 로그에 모두 남지만, 재시작 시 seq 로 중복 적용을 건너뛴다.
+		Files.delete(logFile);
+	}
+
+	private static boolean endsWithNewline(FileChannel channel, long size) throws IOException {
+		ByteBuffer last = ByteBuffer.allocate(1);
+		channel.read(last, size - 1);
+		return last.get(0) == '\n';
+	}
+
+	private BufferedWriter openLog() throws IOException {
+		return Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+			StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+	}
+
+	private void closeLog() throws IOException {
+		synchronized (logMonitor) {
+			if (writer != null) {
+				writer.close();
+				writer = null;
+			}
+		}
+	}
+
+	private static String line(long seq, User user) {
+		return "U " + seq
+			+ " " + user.getId()
+			+ " " + encode(user.getUsername())
+			+ " " + encode(user.getPassword())
+			+ " " + encode(user.getNickname())
+			+ " " + user.getRole().name()
+			+ " " + user.getAuthEpoch()
+			+ " " + (user.getAuthEpochChangedAt() != null ? user.getAuthEpochChangedAt().toEpochMilli() : "-");
+	}
+
+	private static String encode(String value) {
+		return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String decode(String value) {
+		return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+	}
+
+	private static UserSummary summaryOf(User user) {
+		return new UserSummary(user.getId(), user.getUsername(), user.getNickname(), user.getRole());
+	}
+
+	private static User withId(User user, long id) {
+		return User.builder()
+			.id(id)
+			.username(user.getUsername())
+			.password(user.getPassword())
+			.nickname(user.getNickname())
+			.role(user.getRole())
+			.authEpoch(user.getAuthEpoch())
+			.authEpochChangedAt(user.getAuthEpochChangedAt())
+			.build();
+	}
+}
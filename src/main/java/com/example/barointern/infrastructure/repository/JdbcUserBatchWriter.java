@@ -0,0 +1,37 @@
+package com.example.barointern.infrastructure.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.id.TsidGenerator;
+import com.example.barointern.domain.repository.UserBatchWriter;
+
+import lombok.RequiredArgsConstructor;
+
+// JPA 를 거치지 않고 JDBC batch INSERT 로 저장 (영속성 컨텍스트 비용 없음)
+@Repository
+@RequiredArgsConstructor
+public class JdbcUserBatchWriter implements UserBatchWriter {
+
+	private static final String INSERT_SQL =
+		"insert into user (id, username, password, nickname, role, auth_epoch) values (?, ?, ?, ?, ?, 0)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TsidGenerator tsidGenerator;
+
+	@Override
+	@Transactional
+	public void insertAll(List<User> users) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+			ps.setLong(1, user.getId() != null ? user.getId() : tsidGenerator.nextId());
+			ps.setString(2, user.getUsername());
+			ps.setString(3, user.getPassword());
+			ps.setString(4, user.getNickname());
+			ps.setString(5, user.getRole().name());
+		});
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.barointern.infrastructure.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.UserSummary;
+import com.example.barointern.domain.repository.UserExportReader;
+
+// JPA 를 거치지 않고 forward-only 커서로 읽는다. (영속성 컨텍스트에 엔티티가 쌓이지 않음)
+// fetch-size 만큼씩 DB 에서 받아 오므로 메모리 사용량은 전체 행 수와 무관하다.
+// MySQL(Connector/J)은 이 statement 에만 fetch size 를 Integer.MIN_VALUE 로 지정해 한 행씩 스트리밍한다.
+// (URL 의 useCursorFetch=true 는 모든 쿼리를 서버 커서로 바꾸므로 사용하지 않는다)
+// 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없고, 다 읽을 때까지 커넥션을 점유한다.
+@Repository
+public class JdbcUserExportReader implements UserExportReader {
+
+	private static final String SELECT_SQL = "select id, username, nickname, role from user order by id";
+	private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int fetchSize;
+
+	public JdbcUserExportReader(JdbcTemplate jdbcTemplate,
+		@Value("${user-export.fetch-size:1000}") int fetchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.fetchSize = fetchSize;
+	}
+
+	@Override
+	@Transactional(readOnly = true)  // 일부 드라이버는 트랜잭션 안에서만 커서를 유지한다.
+	public void forEachUser(Consumer<UserSummary> action) {
+		jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(SELECT_SQL,
+				ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			// H2 등은 음수 fetch size 를 허용하지 않으므로 MySQL 에서만 스트리밍 모드 사용
+			boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+			statement.setFetchSize(mysql ? MYSQL_STREAMING_FETCH_SIZE : fetchSize);
+			return statement;
+		}, resultSet -> {
+			String role = resultSet.getString(4);
+			action.accept(new UserSummary(
+				resultSet.getLong(1),
+				resultSet.getString(2),
+				resultSet.getString(3),
+				role != null ? Role.valueOf(role) : null));
+		});
+	}
+}
@@ -0,0 +1,152 @@
+package com.example.barointern.infrastructure.repository;
+
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.id.TsidGenerator;
+import com.example.barointern.domain.repository.ReactiveUserRepository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+// R2DBC 로 user 테이블에 직접 SQL 을 실행 (JPA 와 같은 스키마, 리액티브 실행 모드 전용)
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class R2dbcUserRepository implements ReactiveUserRepository {
+
+	private static final String SELECT_BY_ID_SQL =
+		"select id, username, password, nickname, role, auth_epoch from user where id = :id";
+	private static final String SELECT_CREDENTIALS_SQL =
+		"select id, username, password, role, auth_epoch from user where username = :username";
+	private static final String SELECT_CREDENTIALS_BY_ID_SQL =
+		"select id, username, password, role, auth_epoch from user where id = :id";
+	private static final String EXISTS_USERNAME_SQL = "select 1 from user where username = :username limit 1";
+	private static final String EXISTS_NICKNAME_SQL = "select 1 from user where nickname = :nickname limit 1";
+	private static final String INSERT_SQL = "insert into user (id, username, password, nickname, role, auth_epoch)"
+		+ " values (:id, :username, :password, :nickname, :role, 0)";
+	private static final String UPDATE_ROLE_SQL = "update user set role = :role, auth_epoch = auth_epoch + 1,"
+		+ " auth_epoch_changed_at = :now where id = :id";
+	private static final String UPDATE_PASSWORD_SQL = "update user set password = :password where id = :id";
+
+	private final DatabaseClient databaseClient;
+	private final TsidGenerator tsidGenerator;
+
+	@Override
+	public Mono<User> findById(Long id) {
+		return databaseClient.sql(SELECT_BY_ID_SQL)
+			.bind("id", id)
+			.map(row -> User.builder()
+				.id(row.get("id", Long.class))
+				.username(row.get("username", String.class))
+				.password(row.get("password", String.class))
+				.nickname(row.get("nickname", String.class))
+				.role(roleOf(row))
+				.authEpoch(authEpochOf(row))
+				.build())
+			.one();
+	}
+
+	@Override
+	public Mono<UserCredentials> findCredentialsByUsername(String username) {
+		return databaseClient.sql(SELECT_CREDENTIALS_SQL)
+			.bind("username", username)
+			.map(R2dbcUserRepository::credentialsOf)
+			.one();
+	}
+
+	@Override
+	public Mono<UserCredentials> findCredentialsById(Long id) {
+		return databaseClient.sql(SELECT_CREDENTIALS_BY_ID_SQL)
+			.bind("id", id)
+			.map(R2dbcUserRepository::credentialsOf)
+			.one();
+	}
+
+	@Override
+	public Mono<Boolean> existsByUsername(String username) {
+		return databaseClient.sql(EXISTS_USERNAME_SQL)
+			.bind("username", username)
+			.fetch()
+			.first()
+			.hasElement();
+	}
+
+	@Override
+	public Mono<Boolean> existsByNickname(String nickname) {
+		return databaseClient.sql(EXISTS_NICKNAME_SQL)
+			.bind("nickname", nickname)
+			.fetch()
+			.first()
+			.hasElement();
+	}
+
+	@Override
+	public Mono<User> insert(User user) {
+		// JPA 와 같은 생성기를 사용하므로 두 실행 모드의 ID 가 섞여도 겹치지 않는다.
+		long id = user.getId() != null ? user.getId() : tsidGenerator.nextId();
+
+		return databaseClient.sql(INSERT_SQL)
+			.bind("id", id)
+			.bind("username", user.getUsername())
+			.bind("password", user.getPassword())
+			.bind("nickname", user.getNickname())
+			.bind("role", user.getRole().name())
+			.fetch()
+			.rowsUpdated()
+			.thenReturn(User.builder()
+				.id(id)
+				.username(user.getUsername())
+				.password(user.getPassword())
+				.nickname(user.getNickname())
+				.role(user.getRole())
+				.build());
+	}
+
+	@Override
+	public Mono<Integer> updateRole(Long id, Role role) {
+		return databaseClient.sql(UPDATE_ROLE_SQL)
+			.bind("role", role.name())
+			.bind("now", Instant.now())
+			.bind("id", id)
+			.fetch()
+			.rowsUpdated()
+			.map(Long::intValue);
+	}
+
+	@Override
+	public Mono<Integer> updatePassword(Long id, String password) {
+		return databaseClient.sql(UPDATE_PASSWORD_SQL)
+			.bind("password", password)
+			.bind("id", id)
+			.fetch()
+			.rowsUpdated()
+			.map(Long::intValue);
+	}
+
+	private static UserCredentials credentialsOf(Readable row) {
+		return new UserCredentials(
+			row.get("id", Long.class),
+			row.get("username", String.class),
+			row.get("password", String.class),
+			roleOf(row),
+			authEpochOf(row));
+	}
+
+	private static Role roleOf(Readable row) {
+		String role = row.get("role", String.class);
+		return role != null ? Role.valueOf(role) : null;
+	}
+
+	private static int authEpochOf(Readable row) {
+		Integer authEpoch = row.get("auth_epoch", Integer.class);
+		return authEpoch != null ? authEpoch : 0;
+	}
+}
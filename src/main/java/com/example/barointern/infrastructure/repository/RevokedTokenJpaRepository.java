@@ -0,0 +1,30 @@
+package com.example.barointern.infrastructure.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.barointern.domain.entity.RevokedToken;
+import com.example.barointern.domain.repository.RevokedTokenRepository;
+
+@Repository
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedToken, Long>, RevokedTokenRepository {
+
+	@Override
+	List<RevokedToken> findAllByExpiresAtAfter(Instant now);
+
+	@Override
+	List<RevokedToken> findAllByRevokedAtAfter(Instant since);
+
+	@Override
+	@Transactional
+	@Modifying
+	@Query("delete from RevokedToken t where t.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -1,11 +1,25 @@
 package com.example.barointern.infrastructure.repository;
 
+import com.example.barointern.domain.entity.Role;
 import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.entity.UserAuthEpoch;
+import com.example.barointern.domain.entity.UserCredentials;
+import com.example.barointern.domain.entity.UserRoleState;
+import com.example.barointern.domain.entity.UserSummary;
 import com.example.barointern.domain.repository.UserRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserJpaRepository extends JpaRepository<User, Long>, UserRepository {
@@ -16,9 +30,101 @@ public interface UserJpaRepository extends JpaRepository<User, Long>, UserReposi
 	@Override
 	Optional<User> findByNickname(String nickname);
 
+	@Override
+	@Query("select new com.example.barointern.domain.entity.UserCredentials(u.id, u.username, u.password, u.role,"
+		+ " u.authEpoch)"
+		+ " from User u where u.username = :username")
+	Optional<UserCredentials> findCredentialsByUsername(@Param("username") String username);
+
+	@Override
+	@Query("select new com.example.barointern.domain.entity.UserCredentials(u.id, u.username, u.password, u.role,"
+		+ " u.authEpoch)"
+		+ " from User u where u.id = :id")
+	Optional<UserCredentials> findCredentialsById(@Param("id") Long id);
+
 	@Override
 	boolean existsByUsername(String username);
 
 	@Override
 	boolean existsByNickname(String nickname);
+
+	@Override
+	default int updateRole(Long id, Role role) {
+		return updateRoleAndBumpAuthEpoch(id, role, Instant.now());
+	}
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update User u set u.role = :role, u.authEpoch = u.authEpoch + 1, u.authEpochChangedAt = :now"
+		+ " where u.id = :id")
+	int updateRoleAndBumpAuthEpoch(@Param("id") Long id, @Param("role") Role role, @Param("now") Instant now);
+
+	@Override
+	default int updateRoles(Collection<Long> ids, Role role) {
+		return updateRolesAndBumpAuthEpoch(ids, role, Instant.now());
+	}
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update User u set u.role = :role, u.authEpoch = u.authEpoch + 1, u.authEpochChangedAt = :now"
+		+ " where u.id in :ids")
+	int updateRolesAndBumpAuthEpoch(@Param("ids") Collection<Long> ids, @Param("role") Role role,
+		@Param("now") Instant now);
+
+	@Override
+	@Transactional
+	@Modifying
+	@Query("update User u set u.password = :password where u.id = :id")
+	int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+	@Override
+	@Query("select u.username from User u where u.username in :usernames")
+	List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+	@Override
+	@Query("select u.nickname from User u where u.nickname in :nicknames")
+	List<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+
+	@Override
+	@Query("select u.username from User u")
+	Stream<String> streamAllUsernames();
+
+	@Override
+	@Query("select u.nickname from User u")
+	Stream<String> streamAllNicknames();
+
+	@Override
+	default List<UserAuthEpoch> findAuthEpochsChangedSince(Instant since) {
+		return since == null ? findAllNonZeroAuthEpochs() : findAuthEpochsChangedAfter(since);
+	}
+
+	@Query("select new com.example.barointern.domain.entity.UserAuthEpoch(u.id, u.authEpoch)"
+		+ " from User u where u.authEpoch > 0")
+	List<UserAuthEpoch> findAllNonZeroAuthEpochs();
+
+	@Query("select new com.example.barointern.domain.entity.UserAuthEpoch(u.id, u.authEpoch)"
+		+ " from User u where u.authEpochChangedAt > :since")
+	List<UserAuthEpoch> findAuthEpochsChangedAfter(@Param("since") Instant since);
+
+	@Override
+	@Query("select new com.example.barointern.domain.entity.UserRoleState(u.id, u.role, u.authEpoch)"
+		+ " from User u where u.id in :ids")
+	List<UserRoleState> findRoleStatesByIds(@Param("ids") Collection<Long> ids);
+
+	// role 조건 유무에 따라 쿼리를 나눠 각각 PK / (role, id) 인덱스만 타도록 한다. (OFFSET 없음)
+	@Override
+	default List<UserSummary> findSummaries(long afterId, Role role, int limit) {
+		return role == null
+			? findSummariesAfter(afterId, Limit.of(limit))
+			: findSummariesByRoleAfter(role, afterId, Limit.of(limit));
+	}
+
+	@Query("select new com.example.barointern.domain.entity.UserSummary(u.id, u.username, u.nickname, u.role)"
+		+ " from User u where u.id > :afterId order by u.id")
+	List<UserSummary> findSummariesAfter(@Param("afterId") long afterId, Limit limit);
+
+	@Query("select new com.example.barointern.domain.entity.UserSummary(u.id, u.username, u.nickname, u.role)"
+		+ " from User u where u.role = :role and u.id > :afterId order by u.id")
+	List<UserSummary> findSummariesByRoleAfter(@Param("role") Role role, @Param("afterId") long afterId,
+		Limit limit);
 }
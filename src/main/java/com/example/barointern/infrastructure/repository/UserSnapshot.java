@@ -0,0 +1,155 @@
+package com.example.barointern.infrastructure.repository;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+
+// InMemoryUserRepository 의 스냅샷 파일 (메모리 매핑으로 읽고 쓴다)
+//   헤더: magic(int) version(int)
+//   레코드: length(int) id(long) authEpoch(int) authEpochChangedAt(long, 없으면 -1)
+//          username / password / nickname / role (각각 length(int) + UTF-8 바이트)
+//   끝: length 자리에 -1
+// 파일 전체를 한 번에 매핑하지 않고 CHUNK_SIZE 단위로 이어서 매핑한다. (2GB 제한 없음)
+final class UserSnapshot {
+
+	private static final int MAGIC = 0x55534e50;  // "USNP"
+	private static final int VERSION = 1;
+	private static final int END_OF_RECORDS = -1;
+	private static final long CHUNK_SIZE = 64L * 1024 * 1024;
+
+	private UserSnapshot() {
+	}
+
+	// 임시 파일에 기록하고 디스크에 반영한 뒤 원자적으로 교체 (기록 중 종료되어도 이전 스냅샷 유지)
+	static long write(Path file, Iterable<User> users) throws IOException {
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		long count = 0;
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedCursor cursor = new MappedCursor(channel, FileChannel.MapMode.READ_WRITE);
+			cursor.ensure(8).putInt(MAGIC).putInt(VERSION);
+
+			for (User user : users) {
+				byte[] username = user.getUsername().getBytes(StandardCharsets.UTF_8);
+				byte[] password = user.getPassword().getBytes(StandardCharsets.UTF_8);
+				byte[] nickname = user.getNickname().getBytes(StandardCharsets.UTF_8);
+				byte[] role = user.getRole().name().getBytes(StandardCharsets.UTF_8);
+				int length = 8 + 4 + 8 + 16 + username.length + password.length + nickname.length + role.length;
+
+				MappedByteBuffer buffer = cursor.ensure(4 + length);
+				buffer.putInt(length)
+					.putLong(user.getId())
+					.putInt(user.getAuthEpoch())
+					.putLong(user.getAuthEpochChangedAt() != null ? user.getAuthEpochChangedAt().toEpochMilli() : -1L);
+				putBytes(buffer, username);
+				putBytes(buffer, password);
+				putBytes(buffer, nickname);
+				putBytes(buffer, role);
+				count++;
+			}
+			cursor.ensure(4).putInt(END_OF_RECORDS);
+
+			cursor.force();
+			channel.truncate(cursor.position());  // 마지막 chunk 의 남는 영역 제거
+			channel.force(true);
+		}
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		return count;
+	}
+
+	static long read(Path file, Consumer<User> action) throws IOException {
+		long count = 0;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedCursor cursor = new MappedCursor(channel, FileChannel.MapMode.READ_ONLY);
+			MappedByteBuffer header = cursor.ensure(8);
+			if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+				throw new IOException("사용자 스냅샷 형식이 올바르지 않습니다: " + file);
+			}
+
+			while (true) {
+				int length = cursor.ensure(4).getInt();
+				if (length == END_OF_RECORDS) {
+					return count;
+				}
+				MappedByteBuffer buffer = cursor.ensure(length);
+				long id = buffer.getLong();
+				int authEpoch = buffer.getInt();
+				long changedAt = buffer.getLong();
+				action.accept(User.builder()
+					.id(id)
+					.authEpoch(authEpoch)
+					.authEpochChangedAt(changedAt >= 0 ? Instant.ofEpochMilli(changedAt) : null)
+					.username(getString(buffer))
+					.password(getString(buffer))
+					.nickname(getString(buffer))
+					.role(Role.valueOf(getString(buffer)))
+					.build());
+				count++;
+			}
+		}
+	}
+
+	private static void putBytes(MappedByteBuffer buffer, byte[] bytes) {
+		buffer.putInt(bytes.length).put(bytes);
+	}
+
+	private static String getString(MappedByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	// 현재 매핑에 필요한 만큼 남아 있지 않으면 지금 위치부터 다음 chunk 를 매핑
+	// (레코드 하나는 항상 한 매핑 안에 들어간다)
+	private static final class MappedCursor {
+
+		private final FileChannel channel;
+		private final FileChannel.MapMode mode;
+		private MappedByteBuffer buffer;
+		private long bufferStart;
+
+		MappedCursor(FileChannel channel, FileChannel.MapMode mode) {
+			this.channel = channel;
+			this.mode = mode;
+		}
+
+		MappedByteBuffer ensure(int bytes) throws IOException {
+			if (buffer != null && buffer.remaining() >= bytes) {
+				return buffer;
+			}
+			long start = position();
+			long size = Math.max(CHUNK_SIZE, bytes);
+			if (mode == FileChannel.MapMode.READ_ONLY) {
+				size = Math.min(size, channel.size() - start);
+				if (size < bytes) {
+					throw new IOException("사용자 스냅샷이 중간에 잘렸습니다.");
+				}
+			} else if (buffer != null) {
+				buffer.force();
+			}
+			buffer = channel.map(mode, start, size);  // 쓰기 모드면 파일이 start + size 까지 늘어난다
+			bufferStart = start;
+			return buffer;
+		}
+
+		long position() {
+			return buffer == null ? 0 : bufferStart + buffer.position();
+		}
+
+		void force() {
+			if (buffer != null) {
+				buffer.force();
+			}
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.barointern.infrastructure.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 서버 성능에 맞춰 목표 지연 시간 안에 끝나는 가장 높은 BCrypt strength 를 찾는다.
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+	private static final int MAX_STRENGTH = 31;
+	private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+	private BCryptStrengthCalibrator() {
+	}
+
+	public static int calibrate(Duration targetLatency, int minStrength) {
+		long targetNanos = targetLatency.toNanos();
+
+		// JIT 워밍업
+		new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+		int chosen = minStrength;
+		for (int strength = minStrength; strength <= MAX_STRENGTH; strength++) {
+			long elapsed = measure(strength);
+			if (elapsed > targetNanos) {
+				break;
+			}
+			chosen = strength;
+			// strength 가 1 오를 때마다 비용이 두 배가 되므로 다음 단계가 목표를 넘으면 중단
+			if (elapsed * 2 > targetNanos) {
+				break;
+			}
+		}
+
+		log.info("BCrypt strength {} 선택 (목표 지연 시간 {}ms)", chosen, targetLatency.toMillis());
+		return chosen;
+	}
+
+	private static long measure(int strength) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+		long start = System.nanoTime();
+		encoder.encode(SAMPLE_PASSWORD);
+		return System.nanoTime() - start;
+	}
+}
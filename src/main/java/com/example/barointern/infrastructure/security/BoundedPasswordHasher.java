@@ -0,0 +1,195 @@
+package com.example.barointern.infrastructure.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.barointern.application.exception.ErrorCode;
+import com.example.barointern.application.exception.ServiceBusyException;
+import com.example.barointern.application.security.PasswordHasher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+// BCrypt 해싱을 요청 스레드(Tomcat) 대신 코어 수만큼의 전용 스레드에서 실행한다.
+// 대기열이 가득 차거나 대기열에서 기다린 시간이 기한을 넘으면 바로 ServiceBusyException(503)을 던진다.
+// 기한은 대기 시간에만 적용하고, 이미 시작한 해싱은 중단할 수 없으므로 끝날 때까지 기다린다.
+@Component
+public class BoundedPasswordHasher implements PasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final long maxWaitNanos;
+	private final ServiceBusyException busyException;  // 상태가 없으므로 하나만 만들어 재사용
+
+	private final Timer waitTimer;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter queueFullCounter;
+	private final Counter deadlineCounter;
+
+	public BoundedPasswordHasher(PasswordEncoder passwordEncoder,
+		MeterRegistry meterRegistry,
+		@Value("${security.password.hashing.pool-size:0}") int poolSize,
+		@Value("${security.password.hashing.queue-capacity:100}") int queueCapacity,
+		@Value("${security.password.hashing.max-wait:2s}") Duration maxWait,
+		@Value("${security.password.hashing.retry-after:1s}") Duration retryAfter) {
+		this.passwordEncoder = passwordEncoder;
+
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), new HasherThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+		this.maxWaitNanos = maxWait.toNanos();
+		this.busyException = new ServiceBusyException(ErrorCode.SERVICE_BUSY.message(),
+			Math.max(1L, retryAfter.toSeconds()));
+
+		Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+			.description("해싱 대기열에 쌓인 작업 수")
+			.register(meterRegistry);
+		Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+			.description("해싱 중인 스레드 수")
+			.register(meterRegistry);
+		this.waitTimer = Timer.builder("password.hashing.wait")
+			.description("해싱 작업이 대기열에서 기다린 시간")
+			.register(meterRegistry);
+		this.encodeTimer = hashingTimer(meterRegistry, "encode");
+		this.matchesTimer = hashingTimer(meterRegistry, "matches");
+		this.queueFullCounter = Counter.builder("password.hashing.rejected")
+			.tag("reason", "queue_full")
+			.register(meterRegistry);
+		this.deadlineCounter = Counter.builder("password.hashing.rejected")
+			.tag("reason", "deadline")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public String encode(String rawPassword) {
+		return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		// 해시 prefix 만 확인하는 가벼운 작업이므로 호출 스레드에서 실행
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	// BCrypt 자체 시간 (대기열에서 기다린 시간은 password.hashing.wait 로 따로 기록)
+	static Timer hashingTimer(MeterRegistry meterRegistry, String operation) {
+		return Timer.builder("password.hashing.duration")
+			.description("BCrypt 해싱/비교에 걸린 시간")
+			.tag("operation", operation)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	private <T> T execute(Timer timer, Callable<T> task) {
+		DeadlineTask<T> deadlineTask = new DeadlineTask<>(timer, task);
+		Future<T> future;
+		try {
+			future = executor.submit(deadlineTask);
+		} catch (RejectedExecutionException e) {
+			// 대기열이 가득 참 → 대기하지 않고 바로 거절
+			queueFullCounter.increment();
+			throw busyException;
+		}
+
+		try {
+			try {
+				return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				if (deadlineTask.abandon()) {
+					// 아직 대기열에 있음 → 대기열에서 빼고 바로 거절
+					executor.remove((Runnable)future);
+					deadlineCounter.increment();
+					throw busyException;
+				}
+				// 이미 해싱 중이면 BCrypt 는 중단할 수 없으므로 끝날 때까지 기다린다. (기한은 대기 시간에만 적용)
+				return future.get();
+			}
+		} catch (InterruptedException e) {
+			deadlineTask.abandon();
+			future.cancel(false);
+			Thread.currentThread().interrupt();
+			throw busyException;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	// 작업자 스레드가 꺼낸 시점에 대기 시간이 기한을 넘었으면 해싱하지 않고 거절한다.
+	// 작업자가 시작하는 것과 호출 스레드가 기다리기를 포기하는 것 중 먼저 일어난 쪽만 유효하다.
+	private final class DeadlineTask<T> implements Callable<T> {
+
+		private final Timer timer;
+		private final Callable<T> task;
+		private final long submittedAt = System.nanoTime();
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		private DeadlineTask(Timer timer, Callable<T> task) {
+			this.timer = timer;
+			this.task = task;
+		}
+
+		@Override
+		public T call() throws Exception {
+			long waited = System.nanoTime() - submittedAt;
+			waitTimer.record(waited, TimeUnit.NANOSECONDS);
+			if (!claimed.compareAndSet(false, true)) {
+				throw busyException;  // 호출 스레드가 이미 거절함
+			}
+			if (waited > maxWaitNanos) {
+				deadlineCounter.increment();
+				throw busyException;
+			}
+			return timer.recordCallable(task);
+		}
+
+		boolean abandon() {
+			return claimed.compareAndSet(false, true);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private static class HasherThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			// 가상 스레드 모드에서도 CPU 작업은 플랫폼 스레드에서 실행 (캐리어 스레드를 오래 점유하지 않도록)
+			return Thread.ofPlatform()
+				.name("password-hasher-" + sequence.incrementAndGet())
+				.daemon(true)
+				.unstarted(runnable);
+		}
+	}
+}
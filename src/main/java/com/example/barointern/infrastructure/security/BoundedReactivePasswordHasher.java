@@ -0,0 +1,121 @@
+package com.example.barointern.infrastructure.security;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.barointern.application.exception.ErrorCode;
+import com.example.barointern.application.exception.ServiceBusyException;
+import com.example.barointern.application.security.ReactivePasswordHasher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// BoundedPasswordHasher 의 리액티브 버전
+// BCrypt 를 Netty 이벤트 루프 대신 스레드 수와 대기 작업 수가 제한된 스케줄러에서 실행한다.
+// 대기 작업이 가득 차거나 대기 시간이 기한을 넘으면 ServiceBusyException(503)으로 끝난다.
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class BoundedReactivePasswordHasher implements ReactivePasswordHasher {
+
+	private static final int THREAD_TTL_SECONDS = 60;
+
+	private final PasswordEncoder passwordEncoder;
+	private final Scheduler scheduler;
+	private final Duration maxWait;
+	private final ServiceBusyException busyException;  // 상태가 없으므로 하나만 만들어 재사용
+
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter queueFullCounter;
+	private final Counter deadlineCounter;
+
+	public BoundedReactivePasswordHasher(PasswordEncoder passwordEncoder,
+		MeterRegistry meterRegistry,
+		@Value("${security.password.hashing.pool-size:0}") int poolSize,
+		@Value("${security.password.hashing.queue-capacity:100}") int queueCapacity,
+		@Value("${security.password.hashing.max-wait:2s}") Duration maxWait,
+		@Value("${security.password.hashing.retry-after:1s}") Duration retryAfter) {
+		this.passwordEncoder = passwordEncoder;
+
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		// bounded elastic 의 대기 한도는 스레드당 값이므로 전체 대기 수가 queue-capacity 가 되도록 나눈다.
+		this.scheduler = Schedulers.newBoundedElastic(threads, Math.max(1, queueCapacity / threads),
+			"password-hasher-reactive", THREAD_TTL_SECONDS, true);
+		this.maxWait = maxWait;
+		this.busyException = new ServiceBusyException(ErrorCode.SERVICE_BUSY.message(),
+			Math.max(1L, retryAfter.toSeconds()));
+
+		this.encodeTimer = BoundedPasswordHasher.hashingTimer(meterRegistry, "encode");
+		this.matchesTimer = BoundedPasswordHasher.hashingTimer(meterRegistry, "matches");
+		this.queueFullCounter = Counter.builder("password.hashing.rejected")
+			.tag("reason", "queue_full")
+			.register(meterRegistry);
+		this.deadlineCounter = Counter.builder("password.hashing.rejected")
+			.tag("reason", "deadline")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+		return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public Mono<String> encode(String rawPassword) {
+		return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		// 해시 prefix 만 확인하는 가벼운 작업이므로 호출 스레드에서 실행
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	// 기한은 대기 시간에만 적용한다. 작업이 시작되기 전에 기한이 지나면 구독을 취소해 대기 중인 작업을 제거하고,
+	// 이미 시작한 해싱은 중단할 수 없으므로 끝날 때까지 기다린다.
+	private <T> Mono<T> execute(Timer timer, Callable<T> task) {
+		return Mono.defer(() -> {
+			long submittedAt = System.nanoTime();
+			AtomicBoolean claimed = new AtomicBoolean();  // 작업 시작과 기한 초과 중 먼저 일어난 쪽만 유효
+			return Mono.fromCallable(() -> {
+					if (!claimed.compareAndSet(false, true)) {
+						return null;  // 이미 기한 초과로 취소됨 (빈 결과는 버려짐)
+					}
+					if (System.nanoTime() - submittedAt > maxWait.toNanos()) {
+						throw new TimeoutException();
+					}
+					return timer.recordCallable(task);
+				})
+				.subscribeOn(scheduler)
+				.timeout(Mono.delay(maxWait)
+					.flatMap(tick -> claimed.compareAndSet(false, true) ? Mono.just(tick) : Mono.never()));
+		})
+			.onErrorMap(RejectedExecutionException.class, e -> {
+				// 대기 작업이 가득 참 → 대기하지 않고 바로 거절
+				queueFullCounter.increment();
+				return busyException;
+			})
+			.onErrorMap(TimeoutException.class, e -> {
+				deadlineCounter.increment();
+				return busyException;
+			});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.dispose();
+	}
+}
@@ -3,13 +3,17 @@ package com.example.barointern.infrastructure.security;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
+import com.example.barointern.application.exception.ErrorCode;
+
 import java.io.IOException;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
 	@Override
@@ -18,18 +22,6 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 		AccessDeniedException accessDeniedException)
 		throws IOException, ServletException {
 
-		response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-		response.setContentType("application/json;charset=UTF-8");
-
-		String body = """
-			{
-			  "error": {
-			    "code": "ACCESS_DENIED",
-			    "message": "접근 권한이 없습니다."
-			  }
-			}
-			""";
-
-		response.getWriter().write(body);
+		ErrorResponseWriter.write(response, ErrorCode.ACCESS_DENIED);
 	}
 }
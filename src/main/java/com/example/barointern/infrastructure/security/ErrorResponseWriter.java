@@ -0,0 +1,23 @@
+package com.example.barointern.infrastructure.security;
+
+import java.io.IOException;
+
+import com.example.barointern.application.exception.ErrorCode;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// 보안 필터/핸들러에서 컨트롤러를 거치지 않고 바로 에러 응답을 쓸 때 사용 (서블릿)
+// ErrorCode 에 미리 인코딩된 본문을 출력 스트림에 그대로 쓰므로 요청마다 문자열/JSON 을 만들지 않는다.
+final class ErrorResponseWriter {
+
+	private ErrorResponseWriter() {
+	}
+
+	static void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+		byte[] body = errorCode.body();
+		response.setStatus(errorCode.status().value());
+		response.setContentType(ErrorCode.CONTENT_TYPE);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+}
@@ -0,0 +1,104 @@
+package com.example.barointern.infrastructure.security;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.example.barointern.application.token.AccessTokenDetails;
+import com.example.barointern.domain.entity.Role;
+
+// 검증된 액세스 토큰의 인증 정보 (UserDetails 없이 토큰 값만 보관)
+// 권한 목록은 Role 마다 하나만 만들어 모든 인증 객체가 공유한다.
+// AbstractAuthenticationToken 은 생성할 때마다 권한 목록을 복사하므로 Authentication 을 직접 구현한다.
+public final class JwtAuthentication implements Authentication {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+	static {
+		for (Role role : Role.values()) {
+			AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+		}
+	}
+
+	private final long userId;
+	private final String username;
+	private final Role role;
+	private final AccessTokenDetails details;
+
+	public JwtAuthentication(long userId, String username, Role role, AccessTokenDetails details) {
+		this.userId = userId;
+		this.username = username;
+		this.role = role;
+		this.details = details;
+	}
+
+	// 역할 이름으로 조회 (알 수 없는 역할이면 null)
+	static Role roleOf(String roleName) {
+		for (Role role : Role.values()) {
+			if (role.name().equals(roleName)) {
+				return role;
+			}
+		}
+		return null;
+	}
+
+	public long getUserId() {
+		return userId;
+	}
+
+	public Role getRole() {
+		return role;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return AUTHORITIES.get(role);
+	}
+
+	@Override
+	public Object getCredentials() {
+		return null;  // 토큰 원문은 보관하지 않음
+	}
+
+	@Override
+	public AccessTokenDetails getDetails() {
+		return details;
+	}
+
+	@Override
+	public String getPrincipal() {
+		return username;
+	}
+
+	@Override
+	public boolean isAuthenticated() {
+		return true;
+	}
+
+	@Override
+	public void setAuthenticated(boolean isAuthenticated) {
+		if (isAuthenticated) {
+			return;
+		}
+		throw new IllegalArgumentException("검증된 토큰의 인증 상태는 바꿀 수 없습니다.");
+	}
+
+	@Override
+	public String getName() {
+		return username;
+	}
+
+	@Override
+	public String toString() {
+		return "JwtAuthentication[userId=" + userId + ", username=" + username + ", role=" + role + "]";
+	}
+}
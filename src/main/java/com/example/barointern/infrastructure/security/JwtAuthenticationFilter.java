@@ -1,27 +1,39 @@
 package com.example.barointern.infrastructure.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.barointern.application.exception.ErrorCode;
+
 import java.io.IOException;
-import java.util.List;
 
 @Component
-@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtTokenAuthenticator jwtTokenAuthenticator;
+	private final int managementPort;  // 설정하지 않으면 -1 (어떤 요청과도 일치하지 않음)
+
+	public JwtAuthenticationFilter(JwtTokenAuthenticator jwtTokenAuthenticator,
+		@Value("${management.server.port:-1}") int managementPort) {
+		this.jwtTokenAuthenticator = jwtTokenAuthenticator;
+		this.managementPort = managementPort;
+	}
+
+	// 공개 경로는 토큰이 있어도 검증하지 않음 (잘못된 토큰으로 공개 API 가 401 이 되지 않도록)
+	// 관리 포트의 actuator 요청(스크레이프)도 인증 결과 메트릭에 섞이지 않도록 건너뛴다.
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return SecurityConfig.PUBLIC_ROUTES.matches(request) || request.getLocalPort() == managementPort;
+	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request,
@@ -31,56 +43,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		String authHeader = request.getHeader("Authorization");
 
 		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+			jwtTokenAuthenticator.recordMissing();
 			filterChain.doFilter(request, response);
 			return;
 		}
 
 		String token = authHeader.substring(7);
 
-		try {
-			Claims claims = jwtTokenProvider.getClaimsFromToken(token);
-
-			String username = claims.get("username", String.class);
-			String role = claims.get("role", String.class);
-
-			List<SimpleGrantedAuthority> authorities =
-				List.of(new SimpleGrantedAuthority("ROLE_" + role));
-
-			UserDetails userDetails = new org.springframework.security.core.userdetails.User(
-				username,
-				"", // 비밀번호는 필요 없음
-				authorities
-			);
+		// 위조/만료/폐기된 토큰 또는 권한 변경 전에 발급된 토큰이면 null
+		Authentication authentication = jwtTokenAuthenticator.authenticate(token);
 
-			UsernamePasswordAuthenticationToken authenticationToken =
-				new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
-
-
-			SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-
-			filterChain.doFilter(request, response);
-
-		} catch (JwtException | IllegalArgumentException e) {
-			// 유효하지 않은 토큰
-			sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED,
-				"INVALID_TOKEN", "유효하지 않은 인증 토큰입니다.");
+		if (authentication == null) {
+			ErrorResponseWriter.write(response, ErrorCode.INVALID_TOKEN);
+			return;
 		}
-	}
-
-	private void sendErrorResponse(HttpServletResponse response, int status,
-		String errorCode, String message) throws IOException {
-		response.setStatus(status);
-		response.setContentType("application/json;charset=UTF-8");
 
-		String body = String.format("""
-			{
-			  "error": {
-			    "code": "%s",
-			    "message": "%s"
-			  }
-			}
-			""", errorCode, message);
+		SecurityContextHolder.getContext().setAuthentication(authentication);
 
-		response.getWriter().write(body);
+		filterChain.doFilter(request, response);
 	}
 }
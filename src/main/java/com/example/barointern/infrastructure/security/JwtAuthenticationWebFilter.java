@@ -0,0 +1,49 @@
+package com.example.barointern.infrastructure.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.example.barointern.application.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+// JwtAuthenticationFilter 의 리액티브 버전
+// 빈으로 등록하면 보안 필터 체인 밖에서도 한 번 더 실행되므로 ReactiveSecurityConfig 에서 직접 생성한다.
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+	private final JwtTokenAuthenticator jwtTokenAuthenticator;
+	private final ServerWebExchangeMatcher unauthenticatedRoutes;  // 공개 경로 + 관리 포트
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		// 공개 경로는 토큰이 있어도 검증하지 않음 (잘못된 토큰으로 공개 API 가 401 이 되지 않도록)
+		return unauthenticatedRoutes.matches(exchange)
+			.flatMap(match -> match.isMatch() ? chain.filter(exchange) : authenticate(exchange, chain));
+	}
+
+	private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain) {
+		String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+			jwtTokenAuthenticator.recordMissing();
+			return chain.filter(exchange);
+		}
+
+		// 위조/만료/폐기된 토큰 또는 권한 변경 전에 발급된 토큰이면 null
+		Authentication authentication = jwtTokenAuthenticator.authenticate(authHeader.substring(7));
+
+		if (authentication == null) {
+			return ReactiveErrorResponses.write(exchange.getResponse(), ErrorCode.INVALID_TOKEN);
+		}
+
+		return chain.filter(exchange)
+			.contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+	}
+}
@@ -0,0 +1,104 @@
+package com.example.barointern.infrastructure.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.example.barointern.application.token.AccessTokenDetails;
+import com.example.barointern.application.token.AuthorizationEpochs;
+import com.example.barointern.application.token.TokenDenylist;
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.infrastructure.security.TokenVerification.FailureReason;
+import com.example.barointern.infrastructure.security.VerifiedTokenCache.VerifiedToken;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Bearer 토큰 검증 (서블릿 필터와 리액티브 WebFilter 가 함께 사용)
+// 모든 작업이 메모리 안에서 끝나므로 이벤트 루프 스레드에서 호출해도 된다.
+@Component
+public class JwtTokenAuthenticator {
+
+	private final JwtTokenProvider jwtTokenProvider;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenDenylist tokenDenylist;
+	private final AuthorizationEpochs authorizationEpochs;
+
+	// 인증 결과별 요청 수 (jwt.authentication, outcome = valid | missing | expired | invalid)
+	private final Counter validCounter;
+	private final Counter missingCounter;
+	private final Counter expiredCounter;
+	private final Counter invalidCounter;
+
+	public JwtTokenAuthenticator(JwtTokenProvider jwtTokenProvider,
+		VerifiedTokenCache verifiedTokenCache,
+		TokenDenylist tokenDenylist,
+		AuthorizationEpochs authorizationEpochs,
+		MeterRegistry meterRegistry) {
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.tokenDenylist = tokenDenylist;
+		this.authorizationEpochs = authorizationEpochs;
+
+		this.validCounter = outcomeCounter(meterRegistry, "valid");
+		this.missingCounter = outcomeCounter(meterRegistry, "missing");
+		this.expiredCounter = outcomeCounter(meterRegistry, "expired");
+		this.invalidCounter = outcomeCounter(meterRegistry, "invalid");
+	}
+
+	// Bearer 토큰 없이 들어온 요청 (필터가 호출)
+	public void recordMissing() {
+		missingCounter.increment();
+	}
+
+	// 유효하지 않은 토큰이면 null
+	public Authentication authenticate(String token) {
+		// 이미 검증된 토큰이면 서명 검증과 파싱을 생략
+		VerifiedToken verified = verifiedTokenCache.get(token);
+
+		if (verified == null) {
+			TokenVerification verification = jwtTokenProvider.verify(token);
+
+			if (!verification.isValid()) {
+				(verification.failureReason() == FailureReason.EXPIRED ? expiredCounter : invalidCounter).increment();
+				return null;
+			}
+
+			Role role = JwtAuthentication.roleOf(verification.role());
+			if (role == null) {
+				// 서명은 맞지만 이 서버가 모르는 역할
+				invalidCounter.increment();
+				return null;
+			}
+
+			verified = toVerifiedToken(verification, role);
+			verifiedTokenCache.put(token, verified);
+		}
+
+		// 폐기된 토큰 또는 권한 변경 전에 발급된 토큰 (캐시에 남아 있더라도 매 요청 확인)
+		if (tokenDenylist.isRevoked(verified.tokenId())
+			|| authorizationEpochs.isStale(verified.userId(), verified.authEpoch())) {
+			invalidCounter.increment();
+			return null;
+		}
+
+		validCounter.increment();
+		return verified.authentication();
+	}
+
+	private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+		return Counter.builder("jwt.authentication")
+			.description("Bearer 토큰 인증 결과별 요청 수")
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	private VerifiedToken toVerifiedToken(TokenVerification verification, Role role) {
+		// UserDetails / 권한 목록을 새로 만들지 않는 경량 인증 객체 (권한 목록은 Role 별로 공유)
+		JwtAuthentication authentication = new JwtAuthentication(verification.userId(), verification.username(),
+			role, new AccessTokenDetails(verification.tokenId(), verification.expiresAt()));
+
+		return new VerifiedToken(verification.tokenId(), verification.userId(), verification.authEpoch(),
+			verification.username(), verification.role(), authentication,
+			verification.expiresAt().toEpochMilli());
+	}
+}
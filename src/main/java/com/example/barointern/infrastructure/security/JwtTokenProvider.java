@@ -1,18 +1,30 @@
 package com.example.barointern.infrastructure.security;
 
 import com.example.barointern.application.jwt.JwtTokenGenerator;
+import com.example.barointern.application.jwt.TokenSubject;
 import com.example.barointern.domain.entity.User;
-import io.jsonwebtoken.Jwts;
+import com.example.barointern.domain.id.TsidGenerator;
+import com.example.barointern.infrastructure.security.TokenVerification.FailureReason;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
@@ -24,52 +36,205 @@ public class JwtTokenProvider implements JwtTokenGenerator {
 
 	private SecretKey secretKey;
 
-	private static final long EXPIRATION_TIME = 2 * 60 * 60 * 1000L; // 2시간 (밀리초 단위)
+	// 서명 검증 + 만료 검사까지 수행하는 파서 (getClaimsFromToken 용)
+	private JwtParser claimsParser;
+
+	// 서명만 검증하는 파서. 만료(exp)와 사용 시작 시각(nbf)은 verify()에서 직접 비교해 예외 없이 처리한다.
+	private JwtParser verifyingParser;
+
+	// 액세스 토큰 유효 시간 (짧게 두고 리프레시 토큰으로 재발급)
+	@Value("${jwt.access-token-validity:30m}")
+	private Duration accessTokenValidity = Duration.ofMinutes(30);
+
+	private static final int MAX_TOKEN_LENGTH = 4096;
+
+	// jjwt의 exp/nbf 검사를 사실상 끄기 위한 허용 오차 (100년)
+	// 시계를 고정하면 exp 와 nbf 중 하나는 항상 실패하므로 오차를 크게 둔다.
+	// (jjwt 는 now ± 오차로 비교하므로 Long 범위를 넘지 않는 값이어야 한다)
+	private static final long TIME_CHECK_DISABLED_SKEW_SECONDS = Duration.ofDays(36_500).toSeconds();
+
+	// exp/nbf 를 직접 비교할 때의 허용 오차 (서버 간 시계 차이)
+	private static final long CLOCK_SKEW_MILLIS = Duration.ofSeconds(30).toMillis();
+
+	private final TsidGenerator tsidGenerator;
+	private final Timer createTimer;
+	private final Timer parseTimer;
+
+	public JwtTokenProvider(TsidGenerator tsidGenerator, MeterRegistry meterRegistry) {
+		this.tsidGenerator = tsidGenerator;
+		this.createTimer = Timer.builder("jwt.create")
+			.description("액세스 토큰 발급 (서명 포함) 시간")
+			.register(meterRegistry);
+		this.parseTimer = Timer.builder("jwt.parse")
+			.description("액세스 토큰 파싱/서명 검증 시간 (검증 캐시 미적중 시에만 실행)")
+			.register(meterRegistry);
+	}
 
 	@PostConstruct
 	public void init() {
 		this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKeyValue));
+		this.claimsParser = Jwts.parser()
+			.verifyWith(secretKey)
+			.build();
+		this.verifyingParser = Jwts.parser()
+			.verifyWith(secretKey)
+			.clockSkewSeconds(TIME_CHECK_DISABLED_SKEW_SECONDS)
+			.build();
 	}
 
 	// JWT 토큰 생성
 	@Override
-	public String createJwtToken(User user) {
+	public String createJwtToken(TokenSubject subject) {
+		long startedAt = System.nanoTime();
+		try {
+			return buildJwtToken(subject);
+		} finally {
+			createTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private String buildJwtToken(TokenSubject subject) {
+		long now = System.currentTimeMillis();
 		return Jwts.builder()
-			.claim("username", user.getUsername())  // 사용자 이름 (sub)
-			.claim("role", user.getRole().name())  // 사용자 역할 (roles)
-			.issuedAt(new Date(System.currentTimeMillis()))  // 발급 시간 (iat)
-			.expiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))  // 만료 시간 (exp)
+			.id(Long.toString(tsidGenerator.nextId()))  // 토큰 ID (jti, 폐기 시 사용)
+			.claim("username", subject.username())  // 사용자 이름 (sub)
+			.claim("role", subject.role().name())  // 사용자 역할 (roles)
+			.claim("uid", subject.userId())  // 사용자 PK
+			.claim("epoch", subject.authEpoch())  // 발급 당시 권한 epoch
+			.issuedAt(new Date(now))  // 발급 시간 (iat)
+			.expiration(new Date(now + accessTokenValidity.toMillis()))  // 만료 시간 (exp)
 			.signWith(secretKey, Jwts.SIG.HS512)  // 비밀 키로 서명
 			.compact();  // JWT 토큰 생성
 	}
 
+	// JWT 토큰을 한 번만 파싱/검증하고 결과를 값으로 돌려준다. (예외를 던지지 않음)
+	public TokenVerification verify(String token) {
+		long startedAt = System.nanoTime();
+		try {
+			return parseAndVerify(token);
+		} finally {
+			parseTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private TokenVerification parseAndVerify(String token) {
+		// 형식이 잘못된 토큰은 파서를 거치지 않고 바로 거절 (예외 생성 비용 절감)
+		if (!isWellFormed(token)) {
+			return TokenVerification.failure(FailureReason.MALFORMED);
+		}
+
+		Claims claims;
+		try {
+			claims = verifyingParser.parseSignedClaims(token).getPayload();
+		} catch (SecurityException e) {
+			return TokenVerification.failure(FailureReason.INVALID_SIGNATURE);
+		} catch (MalformedJwtException | IllegalArgumentException e) {
+			return TokenVerification.failure(FailureReason.MALFORMED);
+		} catch (UnsupportedJwtException e) {
+			return TokenVerification.failure(FailureReason.UNSUPPORTED);
+		} catch (JwtException e) {
+			return TokenVerification.failure(FailureReason.MALFORMED);
+		}
+
+		Date expiration = claims.getExpiration();
+		String username = claims.get("username", String.class);
+		if (expiration == null || username == null) {
+			return TokenVerification.failure(FailureReason.MISSING_CLAIMS);
+		}
+		long now = System.currentTimeMillis();
+		if (expiration.getTime() <= now) {
+			return TokenVerification.failure(FailureReason.EXPIRED);
+		}
+		Date notBefore = claims.getNotBefore();
+		if (notBefore != null && notBefore.getTime() > now + CLOCK_SKEW_MILLIS) {
+			return TokenVerification.failure(FailureReason.NOT_YET_VALID);
+		}
+
+		Date issuedAt = claims.getIssuedAt();
+		return TokenVerification.success(
+			parseTokenId(claims.getId()),
+			numberClaim(claims, "uid"),
+			(int)numberClaim(claims, "epoch"),
+			username,
+			claims.get("role", String.class),
+			issuedAt != null ? issuedAt.toInstant() : null,
+			expiration.toInstant());
+	}
+
 	// JWT 토큰에서 payload 추출
 	public Claims getClaimsFromToken(String token) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
+		return claimsParser
 			.parseSignedClaims(token)
 			.getPayload();
 	}
 
 	// JWT 토큰에서 사용자 ID(username) 추출
 	public String getUsernameFromToken(String token) {
-		return getClaimsFromToken(token).get("username", String.class);
+		return verify(token).username();
 	}
 
 	public String extractUserRole(String token) {
-		return getClaimsFromToken(token).get("role", String.class);
+		return verify(token).role();
 	}
 
 
-	// JWT 토큰 유효성 검사
+	// JWT 토큰 유효성 검사 (만료 여부만 반환하고, 서명 불일치 등 다른 실패는 예외로 던진다)
 	public boolean isTokenExpired(String token) {
-		return getClaimsFromToken(token).getExpiration().before(new Date());
+		TokenVerification verification = verify(token);
+		if (verification.isValid()) {
+			return false;
+		}
+		return switch (verification.failureReason()) {
+			case EXPIRED -> true;
+			case INVALID_SIGNATURE -> throw new SignatureException("JWT 서명이 올바르지 않습니다.");
+			case UNSUPPORTED -> throw new UnsupportedJwtException("지원하지 않는 JWT 형식입니다.");
+			case MALFORMED, MISSING_CLAIMS, NOT_YET_VALID ->
+				throw new MalformedJwtException("유효하지 않은 JWT 토큰입니다: " + verification.failureReason());
+		};
 	}
 
 	// JWT 토큰 검증
 	public boolean validateToken(String token, User user) {
-		String username = getUsernameFromToken(token);
-		return (username.equals(user.getUsername()) && !isTokenExpired(token));
+		TokenVerification verification = verify(token);
+		return verification.isValid() && verification.username().equals(user.getUsername());
+	}
+
+	// claim 이 없으면 0
+	private static long numberClaim(Claims claims, String name) {
+		Object value = claims.get(name);
+		return value instanceof Number number ? number.longValue() : 0L;
+	}
+
+	// jti 가 없거나 숫자가 아니면 0 (폐기 대상이 아닌 이전 형식의 토큰)
+	private static long parseTokenId(String id) {
+		if (id == null) {
+			return 0L;
+		}
+		try {
+			return Long.parseLong(id);
+		} catch (NumberFormatException e) {
+			return 0L;
+		}
+	}
+
+	// header.payload.signature 구조와 Base64URL 문자만 허용
+	private static boolean isWellFormed(String token) {
+		if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+			return false;
+		}
+		int dots = 0;
+		for (int i = 0; i < token.length(); i++) {
+			char c = token.charAt(i);
+			if (c == '.') {
+				dots++;
+			} else if (!isBase64UrlChar(c)) {
+				return false;
+			}
+		}
+		return dots == 2;
+	}
+
+	private static boolean isBase64UrlChar(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
 	}
 }
@@ -0,0 +1,38 @@
+package com.example.barointern.infrastructure.security;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+// 서블릿/리액티브 실행 모드에서 함께 사용하는 비밀번호 인코더
+@Configuration
+public class PasswordEncoderConfig {
+
+	// {id} 접두사 형식의 위임 인코더. 새 해시는 서버에 맞게 보정된 strength 의 bcrypt 로 저장한다.
+	@Bean
+	public PasswordEncoder passwordEncoder(
+		@Value("${security.password.bcrypt.strength:0}") int strength,
+		@Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+		@Value("${security.password.bcrypt.target-latency:250ms}") Duration targetLatency) {
+		int resolvedStrength = strength > 0
+			? strength
+			: BCryptStrengthCalibrator.calibrate(targetLatency, minStrength);
+
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put("bcrypt", new BCryptPasswordEncoder(resolvedStrength));
+		encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+		DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", encoders);
+		// 접두사 없이 저장된 기존 해시는 bcrypt 로 비교 (로그인 성공 시 새 형식으로 재해싱됨)
+		passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+		return passwordEncoder;
+	}
+}
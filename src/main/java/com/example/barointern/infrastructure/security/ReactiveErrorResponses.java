@@ -0,0 +1,27 @@
+package com.example.barointern.infrastructure.security;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import com.example.barointern.application.exception.ErrorCode;
+
+import reactor.core.publisher.Mono;
+
+// 리액티브 보안 필터에서 컨트롤러를 거치지 않고 바로 에러 응답을 쓸 때 사용
+// ErrorCode 에 미리 인코딩된 본문을 복사 없이 감싸서 쓴다.
+final class ReactiveErrorResponses {
+
+	private static final MediaType JSON_UTF8 = MediaType.parseMediaType(ErrorCode.CONTENT_TYPE);
+
+	private ReactiveErrorResponses() {
+	}
+
+	static Mono<Void> write(ServerHttpResponse response, ErrorCode errorCode) {
+		byte[] body = errorCode.body();
+		response.setStatusCode(errorCode.status());
+		response.getHeaders().setContentType(JSON_UTF8);
+		response.getHeaders().setContentLength(body.length);
+
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+	}
+}
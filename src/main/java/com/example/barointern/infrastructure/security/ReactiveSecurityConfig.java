@@ -0,0 +1,72 @@
+package com.example.barointern.infrastructure.security;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.OrServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher.MatchResult;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+import com.example.barointern.application.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+// 리액티브 실행 모드의 보안 설정 (SecurityConfig 와 같은 규칙)
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity // Mono 를 반환하는 메서드의 @PreAuthorize 사용 가능하게 함
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+	// 시작 시 한 번만 만들어 permitAll 규칙과 JwtAuthenticationWebFilter 가 함께 사용
+	static final ServerWebExchangeMatcher PUBLIC_ROUTES = ServerWebExchangeMatchers.pathMatchers(
+		"/signup", "/login", "/token/refresh");
+
+	private final JwtTokenAuthenticator jwtTokenAuthenticator;
+
+	// actuator 는 내부망 전용 관리 포트(management.server.port)로 들어온 요청만 토큰 없이 허용
+	@Bean
+	public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+		@Value("${management.server.port:-1}") int managementPort) {
+		ServerWebExchangeMatcher managementRoutes = exchange -> {
+			InetSocketAddress localAddress = exchange.getRequest().getLocalAddress();
+			return localAddress != null && localAddress.getPort() == managementPort
+				? MatchResult.match()
+				: MatchResult.notMatch();
+		};
+		ServerWebExchangeMatcher unauthenticatedRoutes = new OrServerWebExchangeMatcher(PUBLIC_ROUTES, managementRoutes);
+
+		return http
+			.csrf(ServerHttpSecurity.CsrfSpec::disable)
+			.httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+			.formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+			.logout(ServerHttpSecurity.LogoutSpec::disable)
+			// 세션에 인증 정보를 저장하지 않음 (STATELESS)
+			.securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+			.authorizeExchange(exchange -> exchange
+				.matchers(unauthenticatedRoutes).permitAll()
+				.anyExchange().authenticated()
+			)
+			.exceptionHandling(e -> e
+				// 토큰 없이 보호된 경로 요청 시 서블릿 모드와 같이 403
+				.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN))
+				.accessDeniedHandler((exchange, denied) ->
+					ReactiveErrorResponses.write(exchange.getResponse(), ErrorCode.ACCESS_DENIED))
+			)
+			.addFilterAt(new JwtAuthenticationWebFilter(jwtTokenAuthenticator, unauthenticatedRoutes), SecurityWebFiltersOrder.AUTHENTICATION)
+			.build();
+	}
+}
@@ -1,20 +1,43 @@
 package com.example.barointern.infrastructure.security;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableMethodSecurity // @PreAuthorize, @PostAuthorize 사용 가능하게 함
 public class SecurityConfig {
 
+	// 토큰 없이 접근 가능한 경로
+	private static final String[] PUBLIC_PATHS = {
+		"/signup", "/login", "/token/refresh", "/availability",
+		"/v3/api-docs/**",
+		"/swagger-ui/**",
+		"/swagger-ui.html",
+		"/docs/**",
+		"/swagger-resources/**",       // 🔥 누락 가능성 높음
+		"/configuration/**",           // 🔥 누락 가능성 높음
+		"/webjars/**"
+	};
+
+	// 시작 시 한 번만 만들어 permitAll 규칙과 JwtAuthenticationFilter 가 함께 사용
+	static final RequestMatcher PUBLIC_ROUTES = new OrRequestMatcher(Arrays.stream(PUBLIC_PATHS)
+		.map(path -> (RequestMatcher)new AntPathRequestMatcher(path))
+		.toList());
+
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 	private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
@@ -24,25 +47,17 @@ public class SecurityConfig {
 		this.customAccessDeniedHandler = customAccessDeniedHandler;
 	}
 
+	// actuator 는 내부망 전용 관리 포트(management.server.port)에서만 열리며, 그 포트로 들어온 요청은 토큰 없이 허용
+	// 서비스 포트에는 actuator 가 없으므로 /actuator/** 를 공개 경로에 두지 않는다.
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
-
-	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain securityFilterChain(HttpSecurity http,
+		@Value("${management.server.port:-1}") int managementPort) throws Exception {
 		return http
 			.csrf(AbstractHttpConfigurer::disable)
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(auth -> auth
-				.requestMatchers("/signup", "/login",
-					"/v3/api-docs/**",
-					"/swagger-ui/**",
-					"/swagger-ui.html",
-					"/docs/**",
-					"/swagger-resources/**",       // 🔥 누락 가능성 높음
-					"/configuration/**",           // 🔥 누락 가능성 높음
-					"/webjars/**").permitAll()
+				.requestMatchers(PUBLIC_ROUTES).permitAll()
+				.requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
 				.anyRequest().authenticated()
 			)
 			.exceptionHandling(e -> e
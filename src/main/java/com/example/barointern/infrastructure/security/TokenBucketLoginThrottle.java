@@ -0,0 +1,114 @@
+package com.example.barointern.infrastructure.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.barointern.application.exception.ErrorCode;
+import com.example.barointern.application.exception.RateLimitedException;
+import com.example.barointern.application.security.LoginThrottle;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// username / 클라이언트 IP 별 토큰 버킷으로 로그인 시도를 제한한다.
+// 버킷은 GCRA(Generic Cell Rate Algorithm) 방식으로 AtomicLong 하나에 상태를 담아 CAS 로 갱신한다. (락 없음)
+@Component
+public class TokenBucketLoginThrottle implements LoginThrottle {
+
+	private final BucketGroup usernameBuckets;
+	private final BucketGroup addressBuckets;
+
+	public TokenBucketLoginThrottle(
+		@Value("${security.login-throttle.username.capacity:5}") int usernameCapacity,
+		@Value("${security.login-throttle.username.refill-period:1m}") Duration usernameRefillPeriod,
+		@Value("${security.login-throttle.address.capacity:50}") int addressCapacity,
+		@Value("${security.login-throttle.address.refill-period:1m}") Duration addressRefillPeriod,
+		@Value("${security.login-throttle.maximum-keys:100000}") long maximumKeys) {
+		this.usernameBuckets = new BucketGroup(usernameCapacity, usernameRefillPeriod, maximumKeys);
+		this.addressBuckets = new BucketGroup(addressCapacity, addressRefillPeriod, maximumKeys);
+	}
+
+	// 두 버킷 모두 여유가 있을 때만 토큰을 가져간다.
+	// (username 버킷에서 거절되면 IP 버킷에서 가져간 토큰은 되돌린다)
+	@Override
+	public void acquire(String username, String clientAddress) {
+		long now = System.nanoTime();
+		AtomicLong addressBucket = clientAddress != null ? addressBuckets.bucket(clientAddress, now) : null;
+		AtomicLong usernameBucket = username != null ? usernameBuckets.bucket(normalize(username), now) : null;
+
+		if (addressBucket != null) {
+			addressBuckets.take(addressBucket, now);
+		}
+		if (usernameBucket != null) {
+			try {
+				usernameBuckets.take(usernameBucket, now);
+			} catch (RateLimitedException e) {
+				if (addressBucket != null) {
+					addressBuckets.refund(addressBucket);
+				}
+				throw e;
+			}
+		}
+	}
+
+	// 모든 버킷 상태 초기화 (테스트 사이에 상태가 이어지지 않도록)
+	public void reset() {
+		usernameBuckets.clear();
+		addressBuckets.clear();
+	}
+
+	// 대소문자나 앞뒤 공백만 다른 username 으로 허용량을 우회하지 못하도록 같은 키로 묶는다.
+	private static String normalize(String username) {
+		return username.trim().toLowerCase(Locale.ROOT);
+	}
+
+	// 같은 설정을 공유하는 버킷 묶음 (메모리 상한 + 마지막 접근 후 일정 시간이 지나면 제거)
+	private static class BucketGroup {
+
+		private final long emissionIntervalNanos;  // 토큰 하나가 다시 채워지는 시간
+		private final long burstWindowNanos;       // capacity 만큼의 토큰이 채워지는 시간
+		private final Cache<String, AtomicLong> buckets;
+
+		BucketGroup(int capacity, Duration refillPeriod, long maximumKeys) {
+			this.burstWindowNanos = refillPeriod.toNanos();
+			this.emissionIntervalNanos = burstWindowNanos / capacity;
+			// 버킷이 가득 찬 상태(=새 버킷과 동일)가 되면 보관할 필요가 없다.
+			this.buckets = Caffeine.newBuilder()
+				.maximumSize(maximumKeys)
+				.expireAfterAccess(refillPeriod)
+				.build();
+		}
+
+		AtomicLong bucket(String key, long now) {
+			return buckets.get(key, k -> new AtomicLong(now));
+		}
+
+		void take(AtomicLong theoreticalArrival, long now) {
+			while (true) {
+				long tat = theoreticalArrival.get();
+				long newTat = Math.max(tat, now) + emissionIntervalNanos;
+				long waitNanos = newTat - now - burstWindowNanos;
+				if (waitNanos > 0) {
+					throw new RateLimitedException(ErrorCode.RATE_LIMITED.message(),
+						Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+				}
+				if (theoreticalArrival.compareAndSet(tat, newTat)) {
+					return;
+				}
+			}
+		}
+
+		// take() 로 가져간 토큰 하나를 되돌린다.
+		void refund(AtomicLong theoreticalArrival) {
+			theoreticalArrival.addAndGet(-emissionIntervalNanos);
+		}
+
+		void clear() {
+			buckets.invalidateAll();
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.barointern.infrastructure.security;
+
+import java.time.Instant;
+
+// JWT 토큰 검증 결과 (성공 시 claim 값, 실패 시 실패 사유를 담는다)
+public record TokenVerification(
+	long tokenId,  // jti (없으면 0)
+	long userId,  // uid (없으면 0)
+	int authEpoch,  // epoch
+	String username,
+	String role,
+	Instant issuedAt,
+	Instant expiresAt,
+	FailureReason failureReason
+) {
+
+	public enum FailureReason {
+		MALFORMED,          // 형식이 잘못된 토큰
+		INVALID_SIGNATURE,  // 서명 불일치
+		EXPIRED,            // 만료된 토큰
+		NOT_YET_VALID,      // 사용 시작 시각(nbf) 이전
+		UNSUPPORTED,        // 서명되지 않았거나 지원하지 않는 형식
+		MISSING_CLAIMS      // 필수 claim 누락
+	}
+
+	public static TokenVerification success(long tokenId, long userId, int authEpoch, String username, String role,
+		Instant issuedAt, Instant expiresAt) {
+		return new TokenVerification(tokenId, userId, authEpoch, username, role, issuedAt, expiresAt, null);
+	}
+
+	public static TokenVerification failure(FailureReason failureReason) {
+		return new TokenVerification(0L, 0L, 0, null, null, null, null, failureReason);
+	}
+
+	public boolean isValid() {
+		return failureReason == null;
+	}
+}
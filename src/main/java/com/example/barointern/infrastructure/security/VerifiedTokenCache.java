@@ -0,0 +1,144 @@
+package com.example.barointern.infrastructure.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 이미 검증된 JWT 토큰을 만료 시각(exp)까지 보관하는 캐시
+// 같은 토큰이 반복해서 들어올 때 서명 검증과 claim 파싱을 건너뛴다.
+@Component
+public class VerifiedTokenCache {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	});
+
+	private final Cache<TokenKey, VerifiedToken> cache;
+	private final Clock clock;  // exp(벽시계 시각) 비교용, 남은 시간은 cache 의 ticker 로 센다
+
+	// maximum-size 가 0 이면 캐시를 사용하지 않는다.
+	private final boolean enabled;
+
+	@Autowired
+	public VerifiedTokenCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+		MeterRegistry meterRegistry) {
+		this(maximumSize, meterRegistry, Ticker.systemTicker(), Clock.systemUTC());
+	}
+
+	// 테스트에서 만료 시점을 직접 조절하기 위한 생성자 (ticker 와 clock 이 같은 시간을 가리켜야 한다)
+	VerifiedTokenCache(long maximumSize, MeterRegistry meterRegistry, Ticker ticker, Clock clock) {
+		this.enabled = maximumSize > 0;
+		this.clock = clock;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)  // 크기 기준 제거
+			.expireAfter(new TokenExpiry(clock))  // 토큰 만료 시각 기준 제거
+			.ticker(ticker)
+			.recordStats()
+			.build();
+		// cache.gets{result=hit|miss}, cache.evictions, cache.size 로 노출
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "verified-tokens");
+	}
+
+	// 캐시에 없거나 이미 만료된 경우 null
+	public VerifiedToken get(String token) {
+		if (!enabled) {
+			return null;
+		}
+		VerifiedToken verified = cache.getIfPresent(keyOf(token));
+		if (verified == null || verified.isExpired(clock.millis())) {
+			return null;
+		}
+		return verified;
+	}
+
+	public void put(String token, VerifiedToken verified) {
+		if (!enabled || verified.isExpired(clock.millis())) {
+			return;
+		}
+		cache.put(keyOf(token), verified);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	public long hitCount() {
+		return cache.stats().hitCount();
+	}
+
+	public long missCount() {
+		return cache.stats().missCount();
+	}
+
+	public long size() {
+		return cache.estimatedSize();
+	}
+
+	// 밀린 제거 작업(만료, 크기 초과)을 바로 처리
+	void cleanUp() {
+		cache.cleanUp();
+	}
+
+	// 토큰 원문 대신 SHA-256 digest를 키로 사용한다.
+	private static TokenKey keyOf(String token) {
+		MessageDigest digest = SHA_256.get();
+		ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		return new TokenKey(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+	}
+
+	private record TokenKey(long h0, long h1, long h2, long h3) {
+	}
+
+	public record VerifiedToken(long tokenId, long userId, int authEpoch, String username, String role,
+		Authentication authentication, long expiresAtMillis) {
+
+		boolean isExpired(long nowMillis) {
+			return expiresAtMillis <= nowMillis;
+		}
+	}
+
+	// 넣을 때 exp 까지 남은 시간을 계산하고, 이후 경과 시간은 cache 의 ticker 로 센다.
+	private record TokenExpiry(Clock clock) implements Expiry<TokenKey, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(TokenKey key, VerifiedToken value, long currentTime) {
+			return remainingNanos(value);
+		}
+
+		@Override
+		public long expireAfterUpdate(TokenKey key, VerifiedToken value, long currentTime,
+			long currentDuration) {
+			return remainingNanos(value);
+		}
+
+		@Override
+		public long expireAfterRead(TokenKey key, VerifiedToken value, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+
+		private long remainingNanos(VerifiedToken value) {
+			long remainingMillis = value.expiresAtMillis() - clock.millis();
+			return Math.max(0L, remainingMillis) * 1_000_000L;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package com.example.barointern.infrastructure.token;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.barointern.application.token.RefreshToken;
+import com.example.barointern.application.token.RefreshTokenStore;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 파일 기반 저장소
+// 조회는 메모리(ConcurrentHashMap)에서 하고, 변경 내역만 로그 파일 끝에 한 줄씩 추가한다.
+//   S <hash> <userId> <username(Base64URL)> <loginAt(epoch ms)> <expiresAt(epoch ms)>   저장
+//   C <hash>                                                                           사용(삭제)
+// 로그 줄 수가 살아 있는 토큰 수보다 일정 비율 이상 많아지면 살아 있는 토큰만으로 새 파일을 만들어 교체한다.
+// 교체는 요청 처리 중(append)에는 하지 않고, 시작할 때와 주기적인 purgeExpired 에서만 한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "file")
+public class FileRefreshTokenStore implements RefreshTokenStore {
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+	private final Path logFile;
+	private final int compactionRatio;
+	private final int compactionMinLines;
+
+	// 아래 필드는 this 로 동기화
+	private BufferedWriter writer;
+	private long logLines;
+
+	public FileRefreshTokenStore(
+		@Value("${refresh-token.file.path:data/refresh-tokens.log}") Path logFile,
+		@Value("${refresh-token.file.compaction-ratio:4}") int compactionRatio,
+		@Value("${refresh-token.file.compaction-min-lines:10000}") int compactionMinLines) throws IOException {
+		this.logFile = logFile;
+		this.compactionRatio = compactionRatio;
+		this.compactionMinLines = compactionMinLines;
+
+		if (logFile.getParent() != null) {
+			Files.createDirectories(logFile.getParent());
+		}
+		replay();
+		compact();
+	}
+
+	@Override
+	public void save(RefreshToken refreshToken) {
+		tokens.put(refreshToken.tokenHash(), refreshToken);
+		append(saveLine(refreshToken));
+	}
+
+	@Override
+	public Optional<RefreshToken> consume(String tokenHash) {
+		RefreshToken removed = tokens.remove(tokenHash);
+		if (removed != null) {
+			append("C " + tokenHash);
+		}
+		return Optional.ofNullable(removed);
+	}
+
+	@Override
+	public void purgeExpired() {
+		// 만료된 토큰은 재시작 시 다시 읽을 때도 무시되므로 메모리에서만 지우고, 정리는 compaction 에 맡긴다.
+		Instant now = Instant.now();
+		tokens.values().removeIf(token -> token.isExpired(now));
+		synchronized (this) {
+			if (needsCompaction()) {
+				compact();
+			}
+		}
+	}
+
+	private synchronized void append(String line) {
+		try {
+			writer.write(line);
+			writer.newLine();
+			writer.flush();  // OS 버퍼까지만 기록 (fsync 하지 않음)
+			logLines++;
+		} catch (IOException e) {
+			throw new UncheckedIOException("리프레시 토큰 로그 기록에 실패했습니다.", e);
+		}
+	}
+
+	private boolean needsCompaction() {
+		return logLines >= compactionMinLines && logLines > (long)tokens.size() * compactionRatio;
+	}
+
+	private void replay() throws IOException {
+		if (!Files.exists(logFile)) {
+			return;
+		}
+		Instant now = Instant.now();
+		try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split(" ");
+				if (fields.length == 6 && fields[0].equals("S")) {
+					RefreshToken token = parseSaveLine(fields);
+					if (token != null && !token.isExpired(now)) {
+						tokens.put(token.tokenHash(), token);
+					}
+				} else if (fields.length == 2 && fields[0].equals("C")) {
+					tokens.remove(fields[1]);
+				}
+				// 마지막 줄이 중간에 잘린 경우 등 형식이 맞지 않는 줄은 무시
+			}
+		}
+	}
+
+	// 살아 있는 토큰만 임시 파일에 기록한 뒤 원자적으로 교체
+	private synchronized void compact() {
+		try {
+			if (writer != null) {
+				writer.close();
+			}
+			Path temp = logFile.resolveSibling(logFile.getFileName() + ".compact");
+			long lines = 0;
+			try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+				for (RefreshToken token : tokens.values()) {
+					out.write(saveLine(token));
+					out.newLine();
+					lines++;
+				}
+			}
+			Files.move(temp, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			logLines = lines;
+			writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			log.debug("리프레시 토큰 로그 정리 완료 ({}개)", lines);
+		} catch (IOException e) {
+			throw new UncheckedIOException("리프레시 토큰 로그 정리에 실패했습니다.", e);
+		}
+	}
+
+	private static String saveLine(RefreshToken token) {
+		return "S " + token.tokenHash()
+			+ " " + token.userId()
+			+ " " + ENCODER.encodeToString(token.username().getBytes(StandardCharsets.UTF_8))
+			+ " " + token.loginAt().toEpochMilli()
+			+ " " + token.expiresAt().toEpochMilli();
+	}
+
+	// 숫자나 Base64 가 깨진 줄은 null (이전 형식의 줄도 여기서 걸러진다)
+	private static RefreshToken parseSaveLine(String[] fields) {
+		try {
+			return new RefreshToken(fields[1], Long.valueOf(fields[2]),
+				new String(DECODER.decode(fields[3]), StandardCharsets.UTF_8),
+				Instant.ofEpochMilli(Long.parseLong(fields[4])),
+				Instant.ofEpochMilli(Long.parseLong(fields[5])));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	@PreDestroy
+	public synchronized void close() throws IOException {
+		if (writer != null) {
+			writer.close();
+		}
+	}
+}
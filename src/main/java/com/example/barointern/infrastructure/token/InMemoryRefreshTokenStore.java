@@ -0,0 +1,36 @@
+package com.example.barointern.infrastructure.token;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.barointern.application.token.RefreshToken;
+import com.example.barointern.application.token.RefreshTokenStore;
+
+// 메모리 저장소 (재시작 시 모든 리프레시 토큰이 사라진다)
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+	private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+
+	@Override
+	public void save(RefreshToken refreshToken) {
+		tokens.put(refreshToken.tokenHash(), refreshToken);
+	}
+
+	@Override
+	public Optional<RefreshToken> consume(String tokenHash) {
+		return Optional.ofNullable(tokens.remove(tokenHash));
+	}
+
+	@Override
+	public void purgeExpired() {
+		Instant now = Instant.now();
+		tokens.values().removeIf(token -> token.isExpired(now));
+	}
+}
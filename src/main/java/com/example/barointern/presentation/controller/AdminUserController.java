@@ -0,0 +1,165 @@
+package com.example.barointern.presentation.controller;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.barointern.application.dto.RoleGrantResponse;
+import com.example.barointern.application.dto.UserExportFormat;
+import com.example.barointern.application.dto.UserImportFormat;
+import com.example.barointern.application.dto.UserPageResponse;
+import com.example.barointern.application.dto.UserImportResponse;
+import com.example.barointern.application.service.RoleGrantService;
+import com.example.barointern.application.service.UserExportService;
+import com.example.barointern.application.service.UserImportService;
+import com.example.barointern.application.service.UserService;
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.presentation.dto.RoleGrantRequest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "관리자 전용 API")
+public class AdminUserController {
+
+	private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+	private final UserImportService userImportService;
+	private final RoleGrantService roleGrantService;
+	private final UserService userService;
+	private final UserExportService userExportService;
+
+	@Operation(summary = "사용자 목록",
+		description = "id 순으로 사용자 목록을 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = UserPageResponse.class))),
+		@ApiResponse(responseCode = "403", description = "접근 거부 (권한 없음)")
+	})
+	@GetMapping("/admin/users")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<UserPageResponse> listUsers(
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) Role role,
+		@RequestParam(defaultValue = "20") int size) {
+		UserPageResponse response = userService.listUsers(cursor, role, size);
+		return ResponseEntity.ok(response);
+	}
+
+	@Operation(summary = "사용자 대량 등록",
+		description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문을 스트리밍으로 읽어 사용자를 일괄 등록합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "처리 완료 (행별 결과 포함)",
+			content = @Content(schema = @Schema(implementation = UserImportResponse.class))),
+		@ApiResponse(responseCode = "403", description = "접근 거부 (권한 없음)")
+	})
+	@PostMapping(value = "/admin/users/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<UserImportResponse> importUsers(HttpServletRequest request) throws IOException {
+		UserImportFormat format = TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+			? UserImportFormat.CSV : UserImportFormat.NDJSON;
+
+		// @RequestBody 대신 입력 스트림을 직접 넘겨 본문 전체를 메모리에 올리지 않는다.
+		UserImportResponse response = userImportService.importUsers(request.getInputStream(), format);
+		return ResponseEntity.ok(response);
+	}
+
+	@Operation(summary = "사용자 전체 내보내기",
+		description = "전체 사용자를 NDJSON 또는 CSV 로 스트리밍합니다. Accept-Encoding 이 gzip 을 허용하면 (q > 0) gzip 으로 압축합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "내보내기 성공"),
+		@ApiResponse(responseCode = "403", description = "접근 거부 (권한 없음)")
+	})
+	@GetMapping("/admin/users/export")
+	@PreAuthorize("hasRole('ADMIN')")
+	public void exportUsers(@RequestParam(defaultValue = "NDJSON") UserExportFormat format,
+		HttpServletRequest request, HttpServletResponse response) throws IOException {
+		boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+		response.setStatus(HttpServletResponse.SC_OK);
+		response.setContentType(format == UserExportFormat.CSV
+			? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE + ";charset=UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+			"attachment; filename=\"users." + (format == UserExportFormat.CSV ? "csv" : "ndjson") + "\"");
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+
+		// 응답 본문을 만들어 두지 않고 출력 스트림에 바로 쓴다.
+		userExportService.export(response.getOutputStream(), format, gzip);
+	}
+
+	// Accept-Encoding 의 q 값을 반영해 gzip 허용 여부를 판단 (gzip;q=0 은 거절, gzip 이 없으면 * 의 q 값을 따름)
+	static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		double gzipQuality = -1;
+		double wildcardQuality = -1;
+		for (String coding : acceptEncoding.split(",")) {
+			String[] params = coding.split(";");
+			String name = params[0].trim().toLowerCase(Locale.ROOT);
+			double quality = 1;
+			for (int i = 1; i < params.length; i++) {
+				String param = params[i].trim();
+				if (param.regionMatches(true, 0, "q=", 0, 2)) {
+					quality = parseQuality(param.substring(2).trim());
+				}
+			}
+			if (name.equals("gzip") || name.equals("x-gzip")) {
+				gzipQuality = Math.max(gzipQuality, quality);
+			} else if (name.equals("*")) {
+				wildcardQuality = quality;
+			}
+		}
+		return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+	}
+
+	// 형식이 잘못된 q 값은 허용하지 않는 것으로 본다.
+	private static double parseQuality(String value) {
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	@Operation(summary = "역할 일괄 변경",
+		description = "여러 사용자의 역할을 한 번에 변경합니다. (role 생략 시 ADMIN, 최대 10000명)"
+			+ " chunk 단위로 커밋되므로 일부 chunk 가 실패하면 해당 사용자만 FAILED 로 응답합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "처리 완료 (사용자별 결과 포함)",
+			content = @Content(schema = @Schema(implementation = RoleGrantResponse.class))),
+		@ApiResponse(responseCode = "400", description = "요청한 사용자 수가 최대치를 넘음"),
+		@ApiResponse(responseCode = "403", description = "접근 거부 (권한 없음)")
+	})
+	@PatchMapping("/admin/users/roles")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<RoleGrantResponse> grantRoles(@Valid @RequestBody RoleGrantRequest request) {
+		RoleGrantResponse response = roleGrantService.grantRole(request.toRoleGrantCommand());
+		return ResponseEntity.ok(response);
+	}
+}
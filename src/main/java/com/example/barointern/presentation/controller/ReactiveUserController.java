@@ -0,0 +1,90 @@
+package com.example.barointern.presentation.controller;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.barointern.application.dto.LoginResponse;
+import com.example.barointern.application.dto.UserResponse;
+import com.example.barointern.application.exception.InvalidTokenException;
+import com.example.barointern.application.service.ReactiveUserService;
+import com.example.barointern.application.token.AccessTokenDetails;
+import com.example.barointern.presentation.dto.LoginRequest;
+import com.example.barointern.presentation.dto.SignUpRequest;
+import com.example.barointern.presentation.dto.TokenRefreshRequest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+// 리액티브 실행 모드 (--spring.profiles.active=reactive) 에서 제공하는 API
+// 요청/응답 형식과 에러 응답은 UserController 와 같다.
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Tag(name = "User", description = "유저 관련 API")
+public class ReactiveUserController {
+
+	private static final String UNKNOWN_ADDRESS = "unknown";
+
+	private final ReactiveUserService userService;
+
+	@Operation(summary = "회원가입", description = "사용자가 회원가입을 진행합니다.")
+	@PostMapping("/signup")
+	public Mono<ResponseEntity<UserResponse>> signUp(@RequestBody SignUpRequest request) {
+		return userService.signUp(request.toSignUpCommand())
+			.map(ResponseEntity::ok);
+	}
+
+	@Operation(summary = "로그인", description = "사용자가 로그인을 수행하고 토큰을 발급받습니다.")
+	@PostMapping("/login")
+	public Mono<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest request,
+		ServerHttpRequest httpRequest) {
+		return userService.login(request.toLoginCommand(clientAddress(httpRequest)))
+			.map(ResponseEntity::ok);
+	}
+
+	@Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급받습니다.")
+	@PostMapping("/token/refresh")
+	public Mono<ResponseEntity<LoginResponse>> refresh(@RequestBody TokenRefreshRequest request) {
+		return userService.refresh(request.getRefreshToken())
+			.map(ResponseEntity::ok);
+	}
+
+	@Operation(summary = "토큰 폐기", description = "현재 액세스 토큰과 (전달된 경우) 리프레시 토큰을 더 이상 사용할 수 없게 합니다.")
+	@PostMapping("/token/revoke")
+	public Mono<ResponseEntity<Void>> revoke(@RequestBody(required = false) TokenRefreshRequest request,
+		Authentication authentication) {
+		if (!(authentication.getDetails() instanceof AccessTokenDetails accessToken)) {
+			return Mono.error(InvalidTokenException.NOT_ACCESS_TOKEN);
+		}
+		return userService.revoke(accessToken, request != null ? request.getRefreshToken() : null)
+			.thenReturn(ResponseEntity.noContent().build());
+	}
+
+	@Operation(summary = "관리자 권한 부여", description = "ADMIN 권한을 가진 사용자가 다른 유저에게 관리자 권한을 부여합니다.")
+	@PatchMapping("/admin/users/{userId}/roles")
+	@PreAuthorize("hasRole('ADMIN')")
+	public Mono<ResponseEntity<UserResponse>> grantAdminRole(@PathVariable Long userId) {
+		return userService.grantAdminRole(userId)
+			.map(ResponseEntity::ok);
+	}
+
+	private static String clientAddress(ServerHttpRequest request) {
+		InetSocketAddress remoteAddress = request.getRemoteAddress();
+		if (remoteAddress == null || remoteAddress.getAddress() == null) {
+			return UNKNOWN_ADDRESS;
+		}
+		return remoteAddress.getAddress().getHostAddress();
+	}
+}
@@ -1,9 +1,15 @@
 package com.example.barointern.presentation.controller;
 
+import com.example.barointern.application.dto.AvailabilityResponse;
 import com.example.barointern.application.dto.LoginResponse;
+import com.example.barointern.application.exception.InvalidTokenException;
+import com.example.barointern.application.service.AvailabilityService;
+import com.example.barointern.application.service.TokenService;
+import com.example.barointern.application.token.AccessTokenDetails;
 import com.example.barointern.application.service.UserService;
 import com.example.barointern.presentation.dto.LoginRequest;
 import com.example.barointern.presentation.dto.SignUpRequest;
+import com.example.barointern.presentation.dto.TokenRefreshRequest;
 import com.example.barointern.application.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,23 +17,29 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Tag(name = "User", description = "유저 관련 API")
 public class UserController {
 
 	private final UserService userService;
+	private final AvailabilityService availabilityService;
+	private final TokenService tokenService;
 
 	@Operation(summary = "회원가입", description = "사용자가 회원가입을 진행합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "회원가입 성공",
 			content = @Content(schema = @Schema(implementation = UserResponse.class))),
-		@ApiResponse(responseCode = "400", description = "회원가입 실패 (이미 가입된 사용자)",
+		@ApiResponse(responseCode = "400", description = "회원가입 실패 (이미 가입된 사용자 또는 사용 중인 닉네임)",
 			content = @Content(schema = @Schema(example = "{ \"error\": { \"code\": \"string\", \"message\": \"string\" } }")))
 	})
 	@PostMapping("/signup")
@@ -36,17 +48,58 @@ public class UserController {
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(summary = "아이디/닉네임 사용 가능 여부", description = "회원가입 전 아이디 또는 닉네임이 사용 가능한지 확인합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = AvailabilityResponse.class)))
+	})
+	@GetMapping("/availability")
+	public ResponseEntity<AvailabilityResponse> checkAvailability(
+		@RequestParam(required = false) String username,
+		@RequestParam(required = false) String nickname) {
+		AvailabilityResponse response = availabilityService.check(username, nickname);
+		return ResponseEntity.ok(response);
+	}
+
 	@Operation(summary = "로그인", description = "사용자가 로그인을 수행하고 토큰을 발급받습니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "로그인 성공"),
-		@ApiResponse(responseCode = "401", description = "인증 실패 (아이디/비밀번호 오류)")
+		@ApiResponse(responseCode = "401", description = "인증 실패 (아이디/비밀번호 오류)"),
+		@ApiResponse(responseCode = "429", description = "로그인 시도 횟수 초과 (Retry-After 이후 재시도)"),
+		@ApiResponse(responseCode = "503", description = "로그인 요청 과다 (Retry-After 이후 재시도)")
 	})
 	@PostMapping("/login")
-	public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
-		LoginResponse response = userService.login(request.toLoginCommand());
+	public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+		LoginResponse response = userService.login(request.toLoginCommand(httpRequest.getRemoteAddr()));
+		return ResponseEntity.ok(response);
+	}
+
+	@Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급받습니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "재발급 성공"),
+		@ApiResponse(responseCode = "401", description = "유효하지 않거나 이미 사용된 리프레시 토큰")
+	})
+	@PostMapping("/token/refresh")
+	public ResponseEntity<LoginResponse> refresh(@RequestBody TokenRefreshRequest request) {
+		LoginResponse response = tokenService.refresh(request.getRefreshToken());
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(summary = "토큰 폐기", description = "현재 액세스 토큰과 (전달된 경우) 리프레시 토큰을 더 이상 사용할 수 없게 합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "204", description = "폐기 성공"),
+		@ApiResponse(responseCode = "401", description = "유효하지 않은 인증 토큰")
+	})
+	@PostMapping("/token/revoke")
+	public ResponseEntity<Void> revoke(@RequestBody(required = false) TokenRefreshRequest request,
+		Authentication authentication) {
+		if (!(authentication.getDetails() instanceof AccessTokenDetails accessToken)) {
+			throw InvalidTokenException.NOT_ACCESS_TOKEN;
+		}
+		tokenService.revoke(accessToken, request != null ? request.getRefreshToken() : null);
+		return ResponseEntity.noContent().build();
+	}
+
 	@Operation(summary = "관리자 권한 부여", description = "ADMIN 권한을 가진 사용자가 다른 유저에게 관리자 권한을 부여합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "권한 부여 성공"),
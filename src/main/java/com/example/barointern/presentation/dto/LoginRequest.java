@@ -16,7 +16,7 @@ public class LoginRequest {
 	private String password;
 
 	// LoginRequest를 LoginCommand로 변환하는 메서드
-	public LoginCommand toLoginCommand() {
-		return new LoginCommand(this.username, this.password);
+	public LoginCommand toLoginCommand(String clientAddress) {
+		return new LoginCommand(this.username, this.password, clientAddress);
 	}
 }
@@ -0,0 +1,30 @@
+package com.example.barointern.presentation.dto;
+
+import java.util.List;
+
+import com.example.barointern.application.dto.RoleGrantCommand;
+import com.example.barointern.domain.entity.Role;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleGrantRequest {
+
+	public static final int MAX_USER_IDS = 10_000;
+
+	@Size(max = MAX_USER_IDS, message = "한 번에 최대 " + MAX_USER_IDS + "명까지 변경할 수 있습니다.")
+	private List<Long> userIds;
+	private Role role;  // 생략하면 ADMIN
+
+	// RoleGrantRequest를 RoleGrantCommand로 변환하는 메서드
+	public RoleGrantCommand toRoleGrantCommand() {
+		return new RoleGrantCommand(this.userIds, this.role != null ? this.role : Role.ADMIN);
+	}
+}
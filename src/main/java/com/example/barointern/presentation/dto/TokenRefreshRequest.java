@@ -0,0 +1,14 @@
+package com.example.barointern.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRefreshRequest {
+	private String refreshToken;
+}
@@ -0,0 +1,48 @@
+package com.example.barointern.application.exception;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ErrorCodeTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void 미리_인코딩된_본문은_코드와_메시지를_담은_JSON() throws Exception {
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			JsonNode error = objectMapper.readTree(errorCode.body()).get("error");
+
+			assertThat(error.get("code").asText()).isEqualTo(errorCode.code());
+			assertThat(error.get("message").asText()).isEqualTo(errorCode.message());
+		}
+	}
+
+	@Test
+	void 기본_메시지면_같은_배열을_재사용() {
+		assertThat(ErrorCode.INVALID_TOKEN.body(ErrorCode.INVALID_TOKEN.message()))
+			.isSameAs(ErrorCode.INVALID_TOKEN.body());
+		assertThat(ErrorCode.INVALID_TOKEN.body(null)).isSameAs(ErrorCode.INVALID_TOKEN.body());
+	}
+
+	@Test
+	void 다른_메시지는_JSON_이스케이프() throws Exception {
+		byte[] body = ErrorCode.ACCESS_DENIED.body("\"관리자\"\n전용");
+
+		assertThat(objectMapper.readTree(body).get("error").get("message").asText()).isEqualTo("\"관리자\"\n전용");
+	}
+
+	@Test
+	void 예상된_실패_예외는_스택_트레이스가_없음() {
+		assertThat(InvalidCredentialsException.INSTANCE.getStackTrace()).isEmpty();
+		assertThat(InvalidTokenException.INVALID_REFRESH_TOKEN.getStackTrace()).isEmpty();
+		assertThat(new RateLimitedException("message", 1L).getStackTrace()).isEmpty();
+
+		// 여러 곳에서 던져도 suppressed 예외가 쌓이지 않음
+		InvalidCredentialsException.INSTANCE.addSuppressed(new IllegalStateException());
+		assertThat(InvalidCredentialsException.INSTANCE.getSuppressed()).isEmpty();
+	}
+}
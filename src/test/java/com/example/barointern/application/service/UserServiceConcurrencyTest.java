@@ -0,0 +1,98 @@
+package com.example.barointern.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.barointern.application.dto.SignUpCommand;
+import com.example.barointern.application.exception.UserAlreadyExistsException;
+import com.example.barointern.application.exception.UserAlreadyExistsException.DuplicateField;
+import com.example.barointern.domain.repository.UserRepository;
+
+// 임베디드 DB(H2)에 동시에 중복 가입을 요청해 unique 제약 조건만으로 중복이 걸러지는지 확인
+@SpringBootTest
+class UserServiceConcurrencyTest {
+
+	private static final int THREADS = 8;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@BeforeEach
+	@AfterEach
+	void cleanDatabase() {
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void 같은_아이디로_동시에_가입하면_하나만_성공() throws Exception {
+		List<Object> results = signUpConcurrently(i -> new SignUpCommand("JIN HO", "12341234", "Mentos" + i));
+
+		assertThat(results).filteredOn(r -> r == Boolean.TRUE).hasSize(1);
+		assertThat(results).filteredOn(r -> r instanceof UserAlreadyExistsException)
+			.hasSize(THREADS - 1)
+			.allSatisfy(e -> assertThat(((UserAlreadyExistsException)e).getDuplicateField())
+				.isEqualTo(DuplicateField.USERNAME));
+		assertThat(userRepository.existsByUsername("JIN HO")).isTrue();
+	}
+
+	@Test
+	void 같은_닉네임으로_동시에_가입하면_하나만_성공() throws Exception {
+		List<Object> results = signUpConcurrently(i -> new SignUpCommand("JIN HO" + i, "12341234", "Mentos"));
+
+		assertThat(results).filteredOn(r -> r == Boolean.TRUE).hasSize(1);
+		assertThat(results).filteredOn(r -> r instanceof UserAlreadyExistsException)
+			.hasSize(THREADS - 1)
+			.allSatisfy(e -> assertThat(((UserAlreadyExistsException)e).getDuplicateField())
+				.isEqualTo(DuplicateField.NICKNAME));
+		assertThat(userRepository.existsByNickname("Mentos")).isTrue();
+	}
+
+	// 모든 스레드가 준비된 뒤 동시에 가입 요청. 성공은 TRUE, 실패는 발생한 예외를 담는다.
+	private List<Object> signUpConcurrently(IntFunction<SignUpCommand> commandFactory) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch ready = new CountDownLatch(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Object>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				SignUpCommand command = commandFactory.apply(i);
+				futures.add(executor.submit(() -> {
+					ready.countDown();
+					start.await();
+					try {
+						userService.signUp(command);
+						return Boolean.TRUE;
+					} catch (RuntimeException e) {
+						return e;
+					}
+				}));
+			}
+			ready.await();
+			start.countDown();
+
+			List<Object> results = new ArrayList<>();
+			for (Future<Object> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.barointern.application.token;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.barointern.domain.entity.RevokedToken;
+import com.example.barointern.domain.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenDenylistTest {
+
+	private final FakeRevokedTokenRepository repository = new FakeRevokedTokenRepository();
+
+	private TokenDenylist tokenDenylist() {
+		return new TokenDenylist(repository, new SimpleMeterRegistry(),
+			Duration.ofMinutes(30), Duration.ofMinutes(1), 16, Duration.ofSeconds(5));
+	}
+
+	@Test
+	void 폐기한_토큰만_거절() {
+		TokenDenylist denylist = tokenDenylist();
+
+		denylist.revoke(1001L, Instant.now().plus(Duration.ofMinutes(10)));
+
+		assertThat(denylist.isRevoked(1001L)).isTrue();
+		assertThat(denylist.isRevoked(1002L)).isFalse();
+		assertThat(denylist.isRevoked(0L)).isFalse();
+	}
+
+	@Test
+	void 토큰_만료_시각이_지나면_목록에서_제거() {
+		TokenDenylist denylist = tokenDenylist();
+		Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+		denylist.revoke(1001L, expiresAt);
+		denylist.revoke(1002L, Instant.now().plus(Duration.ofMinutes(20)));
+
+		denylist.expire(expiresAt.plus(Duration.ofMinutes(2)).toEpochMilli());
+
+		assertThat(denylist.isRevoked(1001L)).isFalse();
+		assertThat(denylist.isRevoked(1002L)).isTrue();
+		assertThat(denylist.size()).isEqualTo(1);
+	}
+
+	@Test
+	void 많은_토큰을_폐기해도_모두_조회되고_만료시_비워짐() {
+		TokenDenylist denylist = tokenDenylist();
+		Instant expiresAt = Instant.now().plus(Duration.ofMinutes(3));
+		for (long id = 1; id <= 10_000; id++) {
+			denylist.revoke(id, expiresAt);
+		}
+
+		for (long id = 1; id <= 10_000; id++) {
+			assertThat(denylist.isRevoked(id)).isTrue();
+		}
+
+		denylist.expire(expiresAt.plus(Duration.ofMinutes(2)).toEpochMilli());
+		assertThat(denylist.size()).isZero();
+		assertThat(denylist.isRevoked(1L)).isFalse();
+	}
+
+	@Test
+	void 재시작시_저장된_폐기_목록_복원() {
+		tokenDenylist().revoke(1001L, Instant.now().plus(Duration.ofMinutes(10)));
+
+		TokenDenylist restarted = tokenDenylist();
+		restarted.load();
+
+		assertThat(restarted.isRevoked(1001L)).isTrue();
+	}
+
+	@Test
+	void 다른_서버에서_폐기한_토큰은_refresh_후_거절() {
+		TokenDenylist denylist = tokenDenylist();
+		denylist.load();
+
+		TokenDenylist otherServer = tokenDenylist();
+		otherServer.revoke(1001L, Instant.now().plus(Duration.ofMinutes(10)));
+		assertThat(denylist.isRevoked(1001L)).isFalse();
+
+		denylist.refresh();
+
+		assertThat(denylist.isRevoked(1001L)).isTrue();
+	}
+
+	private static class FakeRevokedTokenRepository implements RevokedTokenRepository {
+
+		private final List<RevokedToken> tokens = new ArrayList<>();
+
+		@Override
+		public RevokedToken save(RevokedToken revokedToken) {
+			tokens.add(revokedToken);
+			return revokedToken;
+		}
+
+		@Override
+		public List<RevokedToken> findAllByExpiresAtAfter(Instant now) {
+			return tokens.stream().filter(token -> token.getExpiresAt().isAfter(now)).toList();
+		}
+
+		@Override
+		public List<RevokedToken> findAllByRevokedAtAfter(Instant since) {
+			return tokens.stream()
+				.filter(token -> token.getRevokedAt() != null && token.getRevokedAt().isAfter(since))
+				.toList();
+		}
+
+		@Override
+		public int deleteExpired(Instant now) {
+			int before = tokens.size();
+			tokens.removeIf(token -> !token.getExpiresAt().isAfter(now));
+			return before - tokens.size();
+		}
+	}
+}
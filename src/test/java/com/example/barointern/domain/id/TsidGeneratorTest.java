@@ -0,0 +1,84 @@
+package com.example.barointern.domain.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class TsidGeneratorTest {
+
+	@Test
+	void 연속으로_생성한_ID는_증가() {
+		TsidGenerator generator = new TsidGenerator(1);
+
+		long previous = generator.nextId();
+		for (int i = 0; i < 100_000; i++) {
+			long next = generator.nextId();
+			assertThat(next).isGreaterThan(previous);
+			previous = next;
+		}
+	}
+
+	@Test
+	void 동시에_생성해도_ID가_겹치지_않음() throws Exception {
+		TsidGenerator generator = new TsidGenerator(1);
+		int threads = 8;
+		int perThread = 50_000;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<long[]>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					long[] ids = new long[perThread];
+					for (int i = 0; i < perThread; i++) {
+						ids[i] = generator.nextId();
+					}
+					return ids;
+				}));
+			}
+
+			Set<Long> unique = new HashSet<>();
+			for (Future<long[]> future : futures) {
+				for (long id : future.get()) {
+					unique.add(id);
+				}
+			}
+			assertThat(unique).hasSize(threads * perThread);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void 노드_번호가_ID에_포함() {
+		long id = new TsidGenerator(513).nextId();
+
+		long node = (id >>> TsidGenerator.SEQUENCE_BITS) & TsidGenerator.MAX_NODE;
+		assertThat(node).isEqualTo(513);
+		assertThat(id).isPositive();
+	}
+
+	@Test
+	void 주어진_시각_이후에_생성한_ID는_하한값_이상() {
+		Instant before = Instant.now();
+		long id = new TsidGenerator(TsidGenerator.MAX_NODE).nextId();
+
+		assertThat(id).isGreaterThanOrEqualTo(TsidGenerator.minIdAt(before));
+		assertThat(id).isLessThan(TsidGenerator.minIdAt(before.plusSeconds(1)));
+	}
+
+	@Test
+	void 범위를_벗어난_노드_번호는_거절() {
+		assertThatThrownBy(() -> new TsidGenerator(TsidGenerator.MAX_NODE + 1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
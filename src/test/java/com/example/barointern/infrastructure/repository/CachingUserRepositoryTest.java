@@ -0,0 +1,133 @@
+package com.example.barointern.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.repository.UserRepository;
+
+// 트랜잭션 완료 후 무효화를 확인하기 위해 테스트 메서드를 트랜잭션으로 감싸지 않는다.
+@SpringBootTest
+class CachingUserRepositoryTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserJpaRepository delegate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private User saved;
+
+	@BeforeEach
+	void saveUser() {
+		assertThat(userRepository).isInstanceOf(CachingUserRepository.class);
+		saved = userRepository.save(User.builder()
+			.username("JIN HO")
+			.password("{bcrypt}hash")
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build());
+	}
+
+	@AfterEach
+	void cleanDatabase() {
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void 조회한_사용자를_변경해도_캐시에는_영향_없음() {
+		User user = userRepository.findById(saved.getId()).orElseThrow();
+		user.setRole(Role.ADMIN);
+
+		assertThat(userRepository.findById(saved.getId())).get()
+			.satisfies(cached -> {
+				assertThat(cached).isNotSameAs(user);
+				assertThat(cached.getRole()).isEqualTo(Role.USER);
+			});
+		assertThat(userRepository.findByUsername("JIN HO")).get()
+			.extracting(User::getRole).isEqualTo(Role.USER);
+	}
+
+	@Test
+	void 역할_변경_후_id와_username_조회_모두_새_값() {
+		userRepository.findById(saved.getId());  // 캐시에 올림
+		userRepository.findByUsername("JIN HO");
+
+		userRepository.updateRole(saved.getId(), Role.ADMIN);
+
+		assertThat(userRepository.findById(saved.getId())).get()
+			.satisfies(user -> {
+				assertThat(user.getRole()).isEqualTo(Role.ADMIN);
+				assertThat(user.getAuthEpoch()).isEqualTo(1);
+			});
+		assertThat(userRepository.findByUsername("JIN HO")).get()
+			.extracting(User::getRole).isEqualTo(Role.ADMIN);
+		assertThat(userRepository.findCredentialsByUsername("JIN HO")).get()
+			.satisfies(credentials -> assertThat(credentials.authEpoch()).isEqualTo(1));
+	}
+
+	@Test
+	void 로그인_정보는_캐시하지_않아_다른_경로의_변경도_바로_반영() {
+		userRepository.findByUsername("JIN HO");  // 사용자 캐시에 올림
+
+		// 다른 서버에서 변경한 경우처럼 캐시를 거치지 않고 변경
+		transactionTemplate.executeWithoutResult(status -> delegate.updatePassword(saved.getId(), "{bcrypt}new-hash"));
+		transactionTemplate.executeWithoutResult(status -> delegate.updateRole(saved.getId(), Role.ADMIN));
+
+		assertThat(userRepository.findCredentialsByUsername("JIN HO")).get()
+			.satisfies(credentials -> {
+				assertThat(credentials.password()).isEqualTo("{bcrypt}new-hash");
+				assertThat(credentials.role()).isEqualTo(Role.ADMIN);
+				assertThat(credentials.authEpoch()).isEqualTo(1);
+			});
+	}
+
+	@Test
+	void 일괄_역할_변경_후_username_조회도_새_값() {
+		userRepository.findByUsername("JIN HO");  // 캐시에 올림
+
+		userRepository.updateRoles(List.of(saved.getId()), Role.ADMIN);
+
+		assertThat(userRepository.findByUsername("JIN HO")).get()
+			.extracting(User::getRole).isEqualTo(Role.ADMIN);
+	}
+
+	@Test
+	void 트랜잭션_안에서_변경하면_커밋_후_새_값() {
+		transactionTemplate.executeWithoutResult(status -> {
+			userRepository.updateRole(saved.getId(), Role.ADMIN);
+			// 커밋 전에 읽은 값은 캐시에 올리지 않음
+			assertThat(userRepository.findById(saved.getId())).get()
+				.extracting(User::getRole).isEqualTo(Role.ADMIN);
+		});
+
+		assertThat(userRepository.findById(saved.getId())).get()
+			.extracting(User::getRole).isEqualTo(Role.ADMIN);
+	}
+
+	@Test
+	void 트랜잭션이_롤백되면_이전_값() {
+		userRepository.findById(saved.getId());  // 캐시에 올림
+
+		transactionTemplate.executeWithoutResult(status -> {
+			userRepository.updateRole(saved.getId(), Role.ADMIN);
+			userRepository.findById(saved.getId());
+			status.setRollbackOnly();
+		});
+
+		assertThat(userRepository.findById(saved.getId())).get()
+			.extracting(User::getRole).isEqualTo(Role.USER);
+	}
+}
@@ -0,0 +1,193 @@
+package com.example.barointern.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.id.TsidGenerator;
+
+class InMemoryUserRepositoryTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final TsidGenerator tsidGenerator = new TsidGenerator(0);
+
+	private User user(String username, String nickname) {
+		return User.builder()
+			.username(username)
+			.password("{bcrypt}hash")
+			.nickname(nickname)
+			.role(Role.USER)
+			.build();
+	}
+
+	@Test
+	void 같은_아이디로_동시에_가입하면_하나만_성공() throws Exception {
+		InMemoryUserRepository repository = new InMemoryUserRepository(tsidGenerator, tempDir);
+		int threads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int i = 0; i < threads; i++) {
+				String nickname = "Mentos" + i;
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						repository.saveAndFlush(user("JIN HO", nickname));
+						return true;
+					} catch (DataIntegrityViolationException e) {
+						return false;
+					}
+				}));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<Boolean> result : results) {
+				succeeded += result.get() ? 1 : 0;
+			}
+			assertThat(succeeded).isEqualTo(1);
+		}
+
+		// 실패한 가입의 닉네임 예약은 남지 않음
+		List<String> nicknames = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			nicknames.add("Mentos" + i);
+		}
+		assertThat(repository.findExistingNicknames(nicknames)).hasSize(1);
+		repository.close();
+	}
+
+	@Test
+	void 일괄_저장은_하나라도_중복이면_전부_실패() throws Exception {
+		InMemoryUserRepository repository = new InMemoryUserRepository(tsidGenerator, tempDir);
+		repository.save(user("JIN HO", "Mentos"));
+
+		assertThatThrownBy(() -> repository.insertAll(List.of(user("A", "a"), user("B", "Mentos"))))
+			.isInstanceOf(DataIntegrityViolationException.class)
+			.hasMessageContaining(User.NICKNAME_CONSTRAINT);
+
+		assertThat(repository.existsByUsername("A")).isFalse();
+		assertThat(repository.existsByUsername("B")).isFalse();
+		repository.close();
+	}
+
+	@Test
+	void 이름은_대소문자와_끝_공백을_무시하고_고유() throws Exception {
+		InMemoryUserRepository repository = new InMemoryUserRepository(tsidGenerator, tempDir);
+		repository.save(user("JIN HO", "Mentos"));
+
+		assertThatThrownBy(() -> repository.save(user("jin ho ", "Other")))
+			.isInstanceOf(DataIntegrityViolationException.class)
+			.hasMessageContaining(User.USERNAME_CONSTRAINT);
+		assertThatThrownBy(() -> repository.save(user("HAN", "MENTOS")))
+			.isInstanceOf(DataIntegrityViolationException.class)
+			.hasMessageContaining(User.NICKNAME_CONSTRAINT);
+
+		assertThat(repository.existsByUsername("Jin Ho")).isTrue();
+		assertThat(repository.findByUsername("jin ho")).get()
+			.extracting(User::getUsername).isEqualTo("JIN HO");
+		assertThat(repository.existsByUsername("HAN")).isFalse();  // 실패한 가입의 예약은 남지 않음
+		repository.close();
+	}
+
+	@Test
+	void 동시에_변경해도_재시작_후_마지막_값으로_복구() throws Exception {
+		InMemoryUserRepository repository = new InMemoryUserRepository(tsidGenerator, tempDir);
+		User saved = repository.save(user("JIN HO", "Mentos"));
+		int threads = 8;
+		int updatesPerThread = 100;
+		CountDownLatch start = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int i = 0; i < threads; i++) {
+				executor.submit(() -> {
+					start.await();
+					for (int j = 0; j < updatesPerThread; j++) {
+						repository.updateRole(saved.getId(), j % 2 == 0 ? Role.ADMIN : Role.USER);
+					}
+					return null;
+				});
+			}
+			start.countDown();
+		}
+		User expected = repository.findById(saved.getId()).orElseThrow();
+		repository.close();
+
+		InMemoryUserRepository reopened = new InMemoryUserRepository(tsidGenerator, tempDir);
+
+		assertThat(reopened.findById(saved.getId())).get()
+			.satisfies(user -> {
+				assertThat(user.getAuthEpoch()).isEqualTo(threads * updatesPerThread);
+				assertThat(user.getRole()).isEqualTo(expected.getRole());
+			});
+		reopened.close();
+	}
+
+	@Test
+	void 재시작_후_스냅샷과_로그로_복구() throws Exception {
+		InMemoryUserRepository repository = new InMemoryUserRepository(tsidGenerator, tempDir);
+		User saved = repository.save(user("JIN HO", "Mentos"));
+		repository.save(user("HAN", "Han"));
+		repository.snapshot();
+
+		// 스냅샷 이후 변경은 로그에만 남음
+		repository.updateRole(saved.getId(), Role.ADMIN);
+		repository.save(user("KIM", "Kim"));
+		repository.close();
+
+		InMemoryUserRepository reopened = new InMemoryUserRepository(tsidGenerator, tempDir);
+
+		assertThat(reopened.findByUsername("JIN HO")).get()
+			.satisfies(user -> {
+				assertThat(user.getId()).isEqualTo(saved.getId());
+				assertThat(user.getRole()).isEqualTo(Role.ADMIN);
+				assertThat(user.getAuthEpoch()).isEqualTo(1);
+			});
+		assertThat(reopened.existsByNickname("Han")).isTrue();
+		assertThat(reopened.findByUsername("KIM")).isPresent();
+		assertThat(reopened.findSummaries(0L, null, 10)).hasSize(3);
+		reopened.close();
+	}
+
+	@Test
+	void 스냅샷_기록이_실패해도_이전_로그를_덮어쓰지_않음() throws Exception {
+		InMemoryUserRepository repository = new InMemoryUserRepository(tsidGenerator, tempDir);
+		repository.save(user("JIN HO", "Mentos"));
+
+		// 스냅샷 임시 파일을 만들 수 없게 해서 로그 교체 후 스냅샷 기록이 실패하도록 함
+		Path blocker = Files.createDirectories(tempDir.resolve("users.snapshot.tmp"));
+		Files.createFile(blocker.resolve("blocker"));
+		assertThatThrownBy(repository::snapshot).isInstanceOf(UncheckedIOException.class);
+
+		// 남아 있는 이전 로그에 이어 붙여야 첫 번째 사용자가 사라지지 않음
+		repository.save(user("HAN", "Han"));
+		assertThatThrownBy(repository::snapshot).isInstanceOf(UncheckedIOException.class);
+		repository.close();
+
+		Files.delete(blocker.resolve("blocker"));
+		Files.delete(blocker);
+		InMemoryUserRepository reopened = new InMemoryUserRepository(tsidGenerator, tempDir);
+
+		assertThat(reopened.findByUsername("JIN HO")).isPresent();
+		assertThat(reopened.findByUsername("HAN")).isPresent();
+		assertThat(tempDir.resolve("users.log.1")).doesNotExist();
+		reopened.close();
+	}
+}
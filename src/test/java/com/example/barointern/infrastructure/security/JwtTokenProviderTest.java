@@ -0,0 +1,141 @@
+package com.example.barointern.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.barointern.application.jwt.TokenSubject;
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.id.TsidGenerator;
+import com.example.barointern.infrastructure.security.TokenVerification.FailureReason;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtTokenProviderTest {
+
+	private static final String SECRET_KEY =
+		"401b09eab3c013d4ca54922bb802bec8fd5318192b0a75f201d8b3727429080fb337591abd3e44453b954555b7a0812e1081c39b740293f765eae731f5a65ed1";
+
+	private final SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY));
+	private final JwtTokenProvider jwtTokenProvider = jwtTokenProvider();
+
+	private static JwtTokenProvider jwtTokenProvider() {
+		JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new TsidGenerator(0), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(jwtTokenProvider, "secretKeyValue", SECRET_KEY);
+		jwtTokenProvider.init();
+		return jwtTokenProvider;
+	}
+
+	// 만료 30분 후, username/role/uid 를 가진 토큰
+	private JwtBuilder token() {
+		long now = System.currentTimeMillis();
+		return Jwts.builder()
+			.id("1")
+			.claim("username", "JIN HO")
+			.claim("role", Role.USER.name())
+			.claim("uid", 7L)
+			.claim("epoch", 0)
+			.issuedAt(new Date(now))
+			.expiration(new Date(now + Duration.ofMinutes(30).toMillis()));
+	}
+
+	@Test
+	void 발급한_토큰은_검증_성공() {
+		String token = jwtTokenProvider.createJwtToken(new TokenSubject(7L, "JIN HO", Role.USER, 3));
+
+		TokenVerification verification = jwtTokenProvider.verify(token);
+
+		assertThat(verification.isValid()).isTrue();
+		assertThat(verification.userId()).isEqualTo(7L);
+		assertThat(verification.username()).isEqualTo("JIN HO");
+		assertThat(verification.role()).isEqualTo("USER");
+		assertThat(verification.authEpoch()).isEqualTo(3);
+		assertThat(verification.tokenId()).isPositive();
+	}
+
+	@Test
+	void 형식이_잘못된_토큰은_MALFORMED() {
+		assertThat(jwtTokenProvider.verify("not-a-jwt").failureReason()).isEqualTo(FailureReason.MALFORMED);
+		assertThat(jwtTokenProvider.verify("a.b.c").failureReason()).isEqualTo(FailureReason.MALFORMED);
+	}
+
+	@Test
+	void 다른_키로_서명한_토큰은_INVALID_SIGNATURE() {
+		SecretKey otherKey = Jwts.SIG.HS512.key().build();
+		String token = token().signWith(otherKey, Jwts.SIG.HS512).compact();
+
+		assertThat(jwtTokenProvider.verify(token).failureReason()).isEqualTo(FailureReason.INVALID_SIGNATURE);
+	}
+
+	@Test
+	void 만료된_토큰은_EXPIRED() {
+		long now = System.currentTimeMillis();
+		String token = token()
+			.issuedAt(new Date(now - Duration.ofHours(1).toMillis()))
+			.expiration(new Date(now - Duration.ofMinutes(1).toMillis()))
+			.signWith(secretKey, Jwts.SIG.HS512)
+			.compact();
+
+		assertThat(jwtTokenProvider.verify(token).failureReason()).isEqualTo(FailureReason.EXPIRED);
+		assertThat(jwtTokenProvider.isTokenExpired(token)).isTrue();
+	}
+
+	@Test
+	void nbf_이전에_사용한_토큰은_NOT_YET_VALID() {
+		String token = token()
+			.notBefore(new Date(System.currentTimeMillis() + Duration.ofMinutes(10).toMillis()))
+			.signWith(secretKey, Jwts.SIG.HS512)
+			.compact();
+
+		assertThat(jwtTokenProvider.verify(token).failureReason()).isEqualTo(FailureReason.NOT_YET_VALID);
+	}
+
+	@Test
+	void nbf_가_지난_토큰은_검증_성공() {
+		String token = token()
+			.notBefore(new Date(System.currentTimeMillis() - Duration.ofMinutes(1).toMillis()))
+			.signWith(secretKey, Jwts.SIG.HS512)
+			.compact();
+
+		assertThat(jwtTokenProvider.verify(token).isValid()).isTrue();
+	}
+
+	@Test
+	void 서명되지_않은_토큰은_UNSUPPORTED() {
+		String token = token().compact();
+
+		assertThat(jwtTokenProvider.verify(token).failureReason()).isEqualTo(FailureReason.UNSUPPORTED);
+	}
+
+	@Test
+	void 필수_claim_이_없으면_MISSING_CLAIMS() {
+		String token = Jwts.builder()
+			.claim("role", Role.USER.name())
+			.expiration(new Date(System.currentTimeMillis() + Duration.ofMinutes(30).toMillis()))
+			.signWith(secretKey, Jwts.SIG.HS512)
+			.compact();
+
+		assertThat(jwtTokenProvider.verify(token).failureReason()).isEqualTo(FailureReason.MISSING_CLAIMS);
+	}
+
+	@Test
+	void 만료_여부_확인시_서명이_잘못된_토큰은_예외() {
+		SecretKey otherKey = Jwts.SIG.HS512.key().build();
+		String token = token().signWith(otherKey, Jwts.SIG.HS512).compact();
+
+		assertThatThrownBy(() -> jwtTokenProvider.isTokenExpired(token))
+			.isInstanceOf(SignatureException.class);
+		assertThat(jwtTokenProvider.isTokenExpired(token().signWith(secretKey, Jwts.SIG.HS512).compact())).isFalse();
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.barointern.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.barointern.application.exception.RateLimitedException;
+
+class TokenBucketLoginThrottleTest {
+
+	private final TokenBucketLoginThrottle loginThrottle = new TokenBucketLoginThrottle(
+		5, Duration.ofMinutes(1),
+		50, Duration.ofMinutes(1),
+		10_000);
+
+	@Test
+	void 허용량_이내의_시도는_통과() {
+		for (int i = 0; i < 5; i++) {
+			loginThrottle.acquire("JIN HO", "10.0.0.1");
+		}
+	}
+
+	@Test
+	void 사용자별_허용량_초과시_거절() {
+		for (int i = 0; i < 5; i++) {
+			loginThrottle.acquire("JIN HO", "10.0.0.1");
+		}
+
+		assertThatThrownBy(() -> loginThrottle.acquire("JIN HO", "10.0.0.2"))
+			.isInstanceOf(RateLimitedException.class)
+			.satisfies(e -> assertThat(((RateLimitedException)e).getRetryAfterSeconds()).isPositive());
+
+		// 다른 사용자는 영향을 받지 않음
+		loginThrottle.acquire("Mentos", "10.0.0.2");
+	}
+
+	@Test
+	void IP별_허용량_초과시_거절() {
+		for (int i = 0; i < 50; i++) {
+			loginThrottle.acquire("user" + i, "10.0.0.1");
+		}
+
+		assertThatThrownBy(() -> loginThrottle.acquire("another", "10.0.0.1"))
+			.isInstanceOf(RateLimitedException.class);
+	}
+
+	@Test
+	void 대소문자와_앞뒤_공백만_다른_사용자는_같은_허용량을_공유() {
+		loginThrottle.acquire("JIN HO", "10.0.0.1");
+		loginThrottle.acquire("jin ho", "10.0.0.2");
+		loginThrottle.acquire(" Jin Ho ", "10.0.0.3");
+		loginThrottle.acquire("JIN HO ", "10.0.0.4");
+		loginThrottle.acquire("jIN hO", "10.0.0.5");
+
+		assertThatThrownBy(() -> loginThrottle.acquire("Jin Ho", "10.0.0.6"))
+			.isInstanceOf(RateLimitedException.class);
+	}
+
+	@Test
+	void 사용자별_허용량에서_거절되면_IP_허용량은_소비하지_않음() {
+		for (int i = 0; i < 5; i++) {
+			loginThrottle.acquire("JIN HO", "10.0.0.9");
+		}
+		for (int i = 0; i < 100; i++) {
+			assertThatThrownBy(() -> loginThrottle.acquire("JIN HO", "10.0.0.9"))
+				.isInstanceOf(RateLimitedException.class);
+		}
+
+		// 거절된 100번은 IP 허용량(50)에 포함되지 않음
+		for (int i = 0; i < 45; i++) {
+			loginThrottle.acquire("user" + i, "10.0.0.9");
+		}
+	}
+
+	@Test
+	void 거절된_시도의_비용은_마이크로초_단위() {
+		for (int i = 0; i < 5; i++) {
+			loginThrottle.acquire("attacker", null);
+		}
+
+		int attempts = 100_000;
+		long start = System.nanoTime();
+		for (int i = 0; i < attempts; i++) {
+			try {
+				loginThrottle.acquire("attacker", null);
+			} catch (RateLimitedException e) {
+				// 예상된 거절
+			}
+		}
+		long averageNanos = (System.nanoTime() - start) / attempts;
+
+		// BCrypt 한 번(약 100ms)과 비교해 수천 배 이상 저렴해야 한다.
+		assertThat(averageNanos).isLessThan(Duration.ofMillis(1).toNanos() / 10);
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.barointern.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.barointern.infrastructure.security.VerifiedTokenCache.VerifiedToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+	private final AtomicLong nanos = new AtomicLong();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final Clock clock = new TickerClock(Instant.parse("2025-06-01T00:00:00Z"), nanos);
+
+	private VerifiedTokenCache cache(long maximumSize) {
+		return new VerifiedTokenCache(maximumSize, meterRegistry, nanos::get, clock);
+	}
+
+	private VerifiedToken verified(long tokenId, Duration validity) {
+		return new VerifiedToken(tokenId, 1L, 0, "JIN HO", "USER", null,
+			clock.millis() + validity.toMillis());
+	}
+
+	@Test
+	void 저장한_토큰은_적중하고_처음_보는_토큰은_누락() {
+		VerifiedTokenCache cache = cache(100);
+		VerifiedToken verified = verified(1L, Duration.ofMinutes(30));
+		cache.put("token-1", verified);
+
+		assertThat(cache.get("token-1")).isEqualTo(verified);
+		assertThat(cache.get("token-2")).isNull();
+
+		assertThat(cache.hitCount()).isEqualTo(1);
+		assertThat(cache.missCount()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "verified-tokens").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "verified-tokens").tag("result", "miss")
+			.functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void 토큰_만료_시각이_지나면_제거() {
+		VerifiedTokenCache cache = cache(100);
+		cache.put("token-1", verified(1L, Duration.ofMinutes(30)));
+		cache.put("token-2", verified(2L, Duration.ofHours(2)));
+
+		nanos.addAndGet(Duration.ofHours(1).toNanos());
+		cache.cleanUp();
+
+		assertThat(cache.get("token-1")).isNull();
+		assertThat(cache.get("token-2")).isNotNull();
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void 정리_전에도_만료_시각이_지난_토큰은_조회되지_않음() {
+		VerifiedTokenCache cache = cache(100);
+		cache.put("token-1", verified(1L, Duration.ofMinutes(30)));
+
+		nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+
+		assertThat(cache.get("token-1")).isNull();
+	}
+
+	@Test
+	void 이미_만료된_토큰은_저장하지_않음() {
+		VerifiedTokenCache cache = cache(100);
+		cache.put("token-1", verified(1L, Duration.ofMinutes(-1)));
+
+		assertThat(cache.get("token-1")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void 최대_크기를_넘지_않음() {
+		VerifiedTokenCache cache = cache(10);
+		for (int i = 0; i < 1_000; i++) {
+			cache.put("token-" + i, verified(i, Duration.ofMinutes(30)));
+		}
+		cache.cleanUp();
+
+		assertThat(cache.size()).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void 최대_크기가_0이면_캐시를_사용하지_않음() {
+		VerifiedTokenCache cache = cache(0);
+		cache.put("token-1", verified(1L, Duration.ofMinutes(30)));
+
+		assertThat(cache.get("token-1")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	// 캐시의 ticker 와 같은 값(nanos)으로 움직이는 시계
+	private static class TickerClock extends Clock {
+
+		private final Instant start;
+		private final AtomicLong nanos;
+
+		TickerClock(Instant start, AtomicLong nanos) {
+			this.start = start;
+			this.nanos = nanos;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return start.plusNanos(nanos.get());
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.barointern.infrastructure.token;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.barointern.application.token.RefreshToken;
+
+class FileRefreshTokenStoreTest {
+
+	@TempDir
+	Path tempDir;
+
+	private RefreshToken token(String hash) {
+		Instant now = Instant.now();
+		return new RefreshToken(hash, 1L, "JIN HO", now, now.plus(Duration.ofDays(1)));
+	}
+
+	@Test
+	void 재시작_후에도_사용하지_않은_토큰만_남음() throws Exception {
+		Path logFile = tempDir.resolve("refresh-tokens.log");
+		FileRefreshTokenStore store = new FileRefreshTokenStore(logFile, 4, 10_000);
+		RefreshToken stored = token("b");
+		store.save(token("a"));
+		store.save(stored);
+		assertThat(store.consume("a")).isPresent();
+		store.close();
+
+		FileRefreshTokenStore reopened = new FileRefreshTokenStore(logFile, 4, 10_000);
+
+		assertThat(reopened.consume("a")).isEmpty();
+		assertThat(reopened.consume("b")).get()
+			.satisfies(token -> {
+				assertThat(token.username()).isEqualTo("JIN HO");
+				assertThat(token.loginAt()).isEqualTo(stored.loginAt().truncatedTo(ChronoUnit.MILLIS));
+			});
+		reopened.close();
+	}
+
+	@Test
+	void 토큰은_한_번만_사용_가능() throws Exception {
+		FileRefreshTokenStore store = new FileRefreshTokenStore(tempDir.resolve("refresh-tokens.log"), 4, 10_000);
+		store.save(token("a"));
+
+		assertThat(store.consume("a")).isPresent();
+		assertThat(store.consume("a")).isEmpty();
+		store.close();
+	}
+
+	@Test
+	void 로그가_커지면_주기적인_정리에서_살아_있는_토큰만_남김() throws Exception {
+		Path logFile = tempDir.resolve("refresh-tokens.log");
+		FileRefreshTokenStore store = new FileRefreshTokenStore(logFile, 2, 10);
+		for (int i = 0; i < 100; i++) {
+			store.save(token("t" + i));
+			store.consume("t" + i);
+		}
+		store.save(token("alive"));
+
+		// 요청 처리 중에는 정리하지 않음
+		assertThat(Files.readAllLines(logFile)).hasSize(201);
+
+		store.purgeExpired();
+		store.close();
+
+		assertThat(Files.readAllLines(logFile)).hasSize(1);
+
+		FileRefreshTokenStore reopened = new FileRefreshTokenStore(logFile, 2, 10);
+		assertThat(reopened.consume("alive")).isPresent();
+		reopened.close();
+	}
+}
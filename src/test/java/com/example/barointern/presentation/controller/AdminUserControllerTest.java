@@ -0,0 +1,261 @@
+package com.example.barointern.presentation.controller;
+
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.repository.UserRepository;
+import com.example.barointern.presentation.dto.RoleGrantRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class AdminUserControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@BeforeEach
+	void cleanDatabase() {
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void 사용자_대량_등록_NDJSON() throws Exception {
+		// given - 이미 가입된 사용자
+		userRepository.save(User.builder()
+			.username("JIN HO")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build());
+
+		String body = """
+			{"username": "user1", "password": "pw1", "nickname": "nick1"}
+			{"username": "JIN HO", "password": "pw2", "nickname": "nick2"}
+			{"username": "user3", "password": "pw3", "nickname": "nick1"}
+			{"username": "user4"}
+			""";
+
+		// when & then
+		mockMvc.perform(post("/admin/users/import")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.content(body))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.total").value(4))
+			.andExpect(jsonPath("$.created").value(1))
+			.andExpect(jsonPath("$.failed").value(3))
+			.andExpect(jsonPath("$.failures.length()").value(3))  // 성공한 행은 담지 않음
+			.andExpect(jsonPath("$.failures[0].line").value(2))
+			.andExpect(jsonPath("$.failures[0].status").value("DUPLICATE_USERNAME"))
+			.andExpect(jsonPath("$.failures[1].status").value("DUPLICATE_NICKNAME"))
+			.andExpect(jsonPath("$.failures[2].status").value("INVALID"))
+			.andExpect(jsonPath("$.failuresTruncated").value(false));
+	}
+
+	@Test
+	void 사용자_대량_등록_CSV() throws Exception {
+		String body = """
+			username,password,nickname
+			user1,pw1,nick1
+			user2,pw2,nick2
+			""";
+
+		mockMvc.perform(post("/admin/users/import")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.contentType("text/csv")
+				.content(body))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.total").value(2))
+			.andExpect(jsonPath("$.created").value(2))
+			.andExpect(jsonPath("$.failures").isEmpty());
+	}
+
+	@Test
+	void 사용자_대량_등록_권한_없음() throws Exception {
+		mockMvc.perform(post("/admin/users/import")
+				.with(user("JIN HO").roles("USER"))
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.content("{\"username\": \"user1\", \"password\": \"pw1\", \"nickname\": \"nick1\"}"))
+			.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void 역할_일괄_변경() throws Exception {
+		// given - 일반 사용자, 이미 관리자인 사용자
+		User user = userRepository.save(User.builder()
+			.username("JIN HO")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build());
+		User admin = userRepository.save(User.builder()
+			.username("admin")
+			.password(passwordEncoder.encode("admin123"))
+			.nickname("Admin User")
+			.role(Role.ADMIN)
+			.build());
+
+		String body = String.format("{\"userIds\": [%d, %d, 404, %d], \"role\": \"ADMIN\"}",
+			user.getId(), admin.getId(), user.getId());
+
+		// when & then - 중복 id 는 한 번만 처리, 없는 id 는 NOT_FOUND
+		mockMvc.perform(patch("/admin/users/roles")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.total").value(3))
+			.andExpect(jsonPath("$.updated").value(1))
+			.andExpect(jsonPath("$.unchanged").value(1))
+			.andExpect(jsonPath("$.notFound").value(1))
+			.andExpect(jsonPath("$.failed").value(0))
+			.andExpect(jsonPath("$.results[0].status").value("UPDATED"))
+			.andExpect(jsonPath("$.results[1].status").value("UNCHANGED"))
+			.andExpect(jsonPath("$.results[0].userId").value(user.getId().toString()))  // 문자열로 응답
+			.andExpect(jsonPath("$.results[2].userId").value("404"))
+			.andExpect(jsonPath("$.results[2].status").value("NOT_FOUND"));
+	}
+
+	@Test
+	void 역할_일괄_변경_최대_인원_초과시_400() throws Exception {
+		String userIds = LongStream.rangeClosed(1, RoleGrantRequest.MAX_USER_IDS + 1)
+			.mapToObj(Long::toString)
+			.collect(Collectors.joining(","));
+
+		mockMvc.perform(patch("/admin/users/roles")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"userIds\": [" + userIds + "]}"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.error.code").value("INVALID_REQUEST"));
+	}
+
+	@Test
+	void 사용자_목록_커서_페이지네이션() throws Exception {
+		// given - 사용자 3명 (관리자 1명)
+		for (int i = 1; i <= 3; i++) {
+			userRepository.save(User.builder()
+				.username("user" + i)
+				.password(passwordEncoder.encode("12341234"))
+				.nickname("nick" + i)
+				.role(i == 2 ? Role.ADMIN : Role.USER)
+				.build());
+		}
+
+		// when & then - 첫 페이지
+		String firstPage = mockMvc.perform(get("/admin/users")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.users.length()").value(2))
+			.andExpect(jsonPath("$.users[0].username").value("user1"))
+			.andExpect(jsonPath("$.users[1].username").value("user2"))
+			.andExpect(jsonPath("$.nextCursor").isString())
+			.andReturn().getResponse().getContentAsString();
+		String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+		// 다음 페이지 (마지막)
+		mockMvc.perform(get("/admin/users")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.param("size", "2")
+				.param("cursor", cursor))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.users.length()").value(1))
+			.andExpect(jsonPath("$.users[0].username").value("user3"))
+			.andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+		// 역할로 필터링
+		mockMvc.perform(get("/admin/users")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.param("role", "ADMIN"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.users.length()").value(1))
+			.andExpect(jsonPath("$.users[0].username").value("user2"))
+			.andExpect(jsonPath("$.users[0].roles[0].role").value("ADMIN"));
+	}
+
+	@Test
+	void 사용자_전체_내보내기_CSV_gzip() throws Exception {
+		// JDBC 로 읽으므로 바로 INSERT 되도록 flush
+		userRepository.saveAndFlush(User.builder()
+			.username("JIN HO")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("Mentos, \"M\"")
+			.role(Role.USER)
+			.build());
+		userRepository.saveAndFlush(User.builder()
+			.username("@SUM(A1)")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("=HYPERLINK(\"x\")")
+			.role(Role.USER)
+			.build());
+
+		byte[] body = mockMvc.perform(get("/admin/users/export")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.param("format", "CSV")
+				.header("Accept-Encoding", "gzip"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Encoding", "gzip"))
+			.andReturn().getResponse().getContentAsByteArray();
+
+		String csv;
+		try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			csv = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		assertThat(csv.lines().toList()).hasSize(3);
+		assertThat(csv).startsWith("id,username,nickname,role\n");
+		assertThat(csv).contains(",JIN HO,\"Mentos, \"\"M\"\"\",USER");
+		// 수식으로 시작하는 값은 ' 를 붙여 문자열로 취급되게 함
+		assertThat(csv).contains(",'@SUM(A1),\"'=HYPERLINK(\"\"x\"\")\",USER");
+		assertThat(csv).doesNotContain("12341234");
+	}
+
+	@Test
+	void 사용자_전체_내보내기_gzip_q0_이면_압축하지_않음() throws Exception {
+		mockMvc.perform(get("/admin/users/export")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.param("format", "CSV")
+				.header("Accept-Encoding", "gzip;q=0, identity"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist("Content-Encoding"))
+			.andExpect(content().string(startsWith("id,username,nickname,role\n")));
+
+		// gzip 이 명시되지 않으면 * 의 q 값을 따름
+		mockMvc.perform(get("/admin/users/export")
+				.with(user("admin").roles(Role.ADMIN.name()))
+				.header("Accept-Encoding", "br, *;q=0.5"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Encoding", "gzip"));
+	}
+}
@@ -0,0 +1,231 @@
+package com.example.barointern.presentation.controller;
+
+import com.example.barointern.application.dto.LoginResponse;
+import com.example.barointern.domain.entity.Role;
+import com.example.barointern.domain.entity.User;
+import com.example.barointern.domain.repository.ReactiveUserRepository;
+import com.example.barointern.domain.repository.UserRepository;
+import com.example.barointern.infrastructure.security.TokenBucketLoginThrottle;
+import com.example.barointern.presentation.dto.LoginRequest;
+import com.example.barointern.presentation.dto.SignUpRequest;
+import com.example.barointern.presentation.dto.TokenRefreshRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리액티브 실행 모드 (WebFlux + R2DBC H2) 에서 서블릿 모드와 같은 응답을 내는지 확인
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+public class ReactiveUserControllerTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ReactiveUserRepository reactiveUserRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private TokenBucketLoginThrottle loginThrottle;
+
+	@BeforeEach
+	void cleanDatabase() {
+		userRepository.deleteAll();
+		loginThrottle.reset();
+	}
+
+	@Test
+	void 회원가입_성공() {
+		SignUpRequest request = SignUpRequest.builder()
+			.username("JIN HO")
+			.password("12341234")
+			.nickname("Mentos")
+			.build();
+
+		webTestClient.post().uri("/signup")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.jsonPath("$.username").isEqualTo("JIN HO")
+			.jsonPath("$.nickname").isEqualTo("Mentos")
+			.jsonPath("$.roles[0].role").isEqualTo("USER");
+
+		assertThat(userRepository.findByUsername("JIN HO")).isPresent();
+	}
+
+	@Test
+	void 회원가입_실패_이미_존재하는_사용자() {
+		saveUser("JIN HO", "Mentos", Role.USER);
+
+		SignUpRequest duplicateRequest = SignUpRequest.builder()
+			.username("JIN HO")
+			.password("anotherPassword")
+			.nickname("anotherNick")
+			.build();
+
+		webTestClient.post().uri("/signup")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(duplicateRequest)
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("USER_ALREADY_EXISTS");
+	}
+
+	@Test
+	void 로그인_실패_잘못된_비밀번호() {
+		saveUser("JIN HO", "Mentos", Role.USER);
+
+		webTestClient.post().uri("/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new LoginRequest("JIN HO", "wrongPassword"))
+			.exchange()
+			.expectStatus().isUnauthorized()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("INVALID_CREDENTIALS");
+	}
+
+	@Test
+	void 리프레시_토큰으로_재발급_후_폐기() {
+		saveUser("JIN HO", "Mentos", Role.USER);
+		LoginResponse login = webTestClient.post().uri("/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new LoginRequest("JIN HO", "12341234"))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(LoginResponse.class)
+			.returnResult()
+			.getResponseBody();
+		assertThat(login).isNotNull();
+
+		// 토큰 없이 재발급 (새 리프레시 토큰으로 교체)
+		LoginResponse refreshed = webTestClient.post().uri("/token/refresh")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new TokenRefreshRequest(login.getRefreshToken()))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(LoginResponse.class)
+			.returnResult()
+			.getResponseBody();
+		assertThat(refreshed).isNotNull();
+		assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+
+		// 새 액세스 토큰과 리프레시 토큰을 폐기하면 둘 다 사용할 수 없음
+		webTestClient.post().uri("/token/revoke")
+			.headers(headers -> headers.setBearerAuth(refreshed.getToken()))
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new TokenRefreshRequest(refreshed.getRefreshToken()))
+			.exchange()
+			.expectStatus().isNoContent();
+
+		webTestClient.post().uri("/token/refresh")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new TokenRefreshRequest(refreshed.getRefreshToken()))
+			.exchange()
+			.expectStatus().isUnauthorized()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("INVALID_TOKEN");
+		webTestClient.post().uri("/token/revoke")
+			.headers(headers -> headers.setBearerAuth(refreshed.getToken()))
+			.exchange()
+			.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void 관리자_권한_부여_성공_후_이전_토큰_거절() {
+		User admin = saveUser("admin", "adminNick", Role.ADMIN);
+		User target = saveUser("JIN HO", "Mentos", Role.USER);
+		String adminToken = login("admin");
+		String targetToken = login("JIN HO");
+
+		webTestClient.patch().uri("/admin/users/{userId}/roles", target.getId())
+			.headers(headers -> headers.setBearerAuth(adminToken))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.jsonPath("$.roles[0].role").isEqualTo("ADMIN");
+
+		// JPA 쪽 캐시를 거치지 않도록 R2DBC 저장소로 확인
+		assertThat(reactiveUserRepository.findById(target.getId()).block())
+			.extracting(User::getRole, User::getAuthEpoch)
+			.containsExactly(Role.ADMIN, 1);
+
+		// USER 권한으로 발급된 토큰은 권한 변경 후 거절
+		webTestClient.patch().uri("/admin/users/{userId}/roles", admin.getId())
+			.headers(headers -> headers.setBearerAuth(targetToken))
+			.exchange()
+			.expectStatus().isUnauthorized()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("INVALID_TOKEN");
+	}
+
+	@Test
+	void 관리자_권한_부여_실패_일반_사용자() {
+		User target = saveUser("target", "targetNick", Role.USER);
+		saveUser("JIN HO", "Mentos", Role.USER);
+		String userToken = login("JIN HO");
+
+		webTestClient.patch().uri("/admin/users/{userId}/roles", target.getId())
+			.headers(headers -> headers.setBearerAuth(userToken))
+			.exchange()
+			.expectStatus().isForbidden()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("ACCESS_DENIED");
+	}
+
+	@Test
+	void 관리자_권한_부여_실패_토큰_없음() {
+		webTestClient.patch().uri("/admin/users/{userId}/roles", 1L)
+			.exchange()
+			.expectStatus().isForbidden();
+	}
+
+	@Test
+	void 위조된_토큰은_거절() {
+		webTestClient.patch().uri("/admin/users/{userId}/roles", 1L)
+			.headers(headers -> headers.setBearerAuth("invalid.token.value"))
+			.exchange()
+			.expectStatus().isUnauthorized()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("INVALID_TOKEN");
+	}
+
+	private User saveUser(String username, String nickname, Role role) {
+		return userRepository.save(User.builder()
+			.username(username)
+			.password(passwordEncoder.encode("12341234"))
+			.nickname(nickname)
+			.role(role)
+			.build());
+	}
+
+	private String login(String username) {
+		LoginResponse response = webTestClient.post().uri("/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new LoginRequest(username, "12341234"))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(LoginResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isNotNull();
+		return response.getToken();
+	}
+}
@@ -1,11 +1,15 @@
 package com.example.barointern.presentation.controller;
 
+import com.example.barointern.application.availability.TakenNameFilter;
 import com.example.barointern.domain.entity.Role;
 import com.example.barointern.domain.entity.User;
 import com.example.barointern.domain.repository.UserRepository;
+import com.example.barointern.infrastructure.security.TokenBucketLoginThrottle;
 import com.example.barointern.presentation.dto.LoginRequest;
 import com.example.barointern.presentation.dto.SignUpRequest;
+import com.example.barointern.presentation.dto.TokenRefreshRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +20,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,9 +43,19 @@ public class UserControllerTest {
 	@Autowired
 	private PasswordEncoder passwordEncoder;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private TokenBucketLoginThrottle loginThrottle;
+
+	@Autowired
+	private TakenNameFilter takenNameFilter;
+
 	@BeforeEach
 	void cleanDatabase() {
 		userRepository.deleteAll();
+		loginThrottle.reset();
 	}
 
 	@Test
@@ -85,6 +101,51 @@ public class UserControllerTest {
 			.andExpect(jsonPath("$.error.message").value("이미 가입된 사용자입니다."));
 	}
 
+	@Test
+	void 아이디_닉네임_사용_가능_여부_조회() throws Exception {
+		// given - 회원가입으로 이름을 선점
+		SignUpRequest request = SignUpRequest.builder()
+			.username("JIN HO")
+			.password("12341234")
+			.nickname("Mentos")
+			.build();
+
+		mockMvc.perform(post("/signup")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isOk());
+
+		// when & then
+		mockMvc.perform(get("/availability")
+				.param("username", "JIN HO")
+				.param("nickname", "Chupa"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.usernameAvailable").value(false))
+			.andExpect(jsonPath("$.nicknameAvailable").value(true));
+	}
+
+	@Test
+	void 다른_서버에서_가입한_이름도_refresh_후_사용_중() throws Exception {
+		// given - 필터를 거치지 않고 저장 (다른 서버에서 가입한 경우)
+		userRepository.save(User.builder()
+			.username("OTHER NODE")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("Elsewhere")
+			.role(Role.USER)
+			.build());
+
+		// when
+		takenNameFilter.refresh();
+
+		// then
+		mockMvc.perform(get("/availability")
+				.param("username", "other node")
+				.param("nickname", "Elsewhere"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.usernameAvailable").value(false))
+			.andExpect(jsonPath("$.nicknameAvailable").value(false));
+	}
+
 	@Test
 	void 로그인_성공() throws Exception {
 		// given - 테스트용 유저 저장
@@ -108,7 +169,79 @@ public class UserControllerTest {
 				.content(requestBody))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.token").exists())
-			.andExpect(jsonPath("$.token").isString());
+			.andExpect(jsonPath("$.token").isString())
+			.andExpect(jsonPath("$.refreshToken").isString());
+	}
+
+	@Test
+	void 리프레시_토큰으로_재발급_후_기존_토큰_재사용시_실패() throws Exception {
+		// given - 로그인으로 리프레시 토큰 발급
+		userRepository.save(User.builder()
+			.username("JIN HO")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build());
+
+		String loginBody = mockMvc.perform(post("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(LoginRequest.builder()
+					.username("JIN HO")
+					.password("12341234")
+					.build())))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		String refreshToken = objectMapper.readTree(loginBody).get("refreshToken").asText();
+
+		String refreshBody = objectMapper.writeValueAsString(new TokenRefreshRequest(refreshToken));
+
+		// when & then - 재발급 성공 (새 리프레시 토큰으로 교체)
+		mockMvc.perform(post("/token/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refreshBody))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.token").isString())
+			.andExpect(jsonPath("$.refreshToken").isString())
+			.andExpect(jsonPath("$.refreshToken").value(not(refreshToken)));
+
+		// 이미 사용한 리프레시 토큰은 거절
+		mockMvc.perform(post("/token/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refreshBody))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.error.code").value("INVALID_TOKEN"));
+	}
+
+	@Test
+	void 폐기된_토큰으로_요청시_거절() throws Exception {
+		// given - 로그인으로 액세스 토큰 발급
+		userRepository.save(User.builder()
+			.username("JIN HO")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build());
+
+		String loginBody = mockMvc.perform(post("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(LoginRequest.builder()
+					.username("JIN HO")
+					.password("12341234")
+					.build())))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		String token = objectMapper.readTree(loginBody).get("token").asText();
+
+		// when - 토큰 폐기
+		mockMvc.perform(post("/token/revoke")
+				.header("Authorization", "Bearer " + token))
+			.andExpect(status().isNoContent());
+
+		// then - 같은 토큰으로 요청하면 401
+		mockMvc.perform(post("/token/revoke")
+				.header("Authorization", "Bearer " + token))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.error.code").value("INVALID_TOKEN"));
 	}
 
 	@Test
@@ -163,6 +296,32 @@ public class UserControllerTest {
 			.andExpect(jsonPath("$.error.message").value("아이디 또는 비밀번호가 올바르지 않습니다."));
 	}
 
+	@Test
+	void 로그인_시도_횟수_초과시_거절() throws Exception {
+		// given - 존재하지 않는 사용자로 허용량(5회)만큼 로그인 시도
+		LoginRequest request = LoginRequest.builder()
+			.username("throttled")
+			.password("12341234")
+			.build();
+
+		String requestBody = objectMapper.writeValueAsString(request);
+
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(post("/login")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andExpect(status().isUnauthorized());
+		}
+
+		// when & then - 허용량을 넘으면 429
+		mockMvc.perform(post("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+			.andExpect(status().isTooManyRequests())
+			.andExpect(header().exists("Retry-After"))
+			.andExpect(jsonPath("$.error.code").value("RATE_LIMITED"));
+	}
+
 	@Test
 	void 관리자_권한_부여_성공() throws Exception {
 		// given - 관리자 계정 저장
@@ -194,6 +353,83 @@ public class UserControllerTest {
 			.andExpect(jsonPath("$.roles[0].role").value("ADMIN"));
 	}
 
+	@Test
+	void 권한_변경_전에_발급된_토큰은_거절_후_재발급() throws Exception {
+		// given - 일반 사용자로 로그인
+		User user = userRepository.save(User.builder()
+			.username("JIN HO")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("Mentos")
+			.role(Role.USER)
+			.build());
+
+		String loginBody = mockMvc.perform(post("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(LoginRequest.builder()
+					.username("JIN HO")
+					.password("12341234")
+					.build())))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		String token = objectMapper.readTree(loginBody).get("token").asText();
+		String refreshToken = objectMapper.readTree(loginBody).get("refreshToken").asText();
+
+		// when - 관리자 권한 부여 (권한 epoch 증가)
+		mockMvc.perform(patch("/admin/users/" + user.getId() + "/roles")
+				.with(user("admin").roles(Role.ADMIN.name())))
+			.andExpect(status().isOk());
+
+		// then - 이전 권한으로 발급된 토큰은 거절
+		mockMvc.perform(post("/token/revoke")
+				.header("Authorization", "Bearer " + token))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.error.code").value("INVALID_TOKEN"));
+
+		// then - 리프레시 토큰으로 새 권한의 토큰을 발급받으면 사용 가능
+		String refreshBody = mockMvc.perform(post("/token/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new TokenRefreshRequest(refreshToken))))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		String refreshedToken = objectMapper.readTree(refreshBody).get("token").asText();
+
+		mockMvc.perform(post("/token/revoke")
+				.header("Authorization", "Bearer " + refreshedToken))
+			.andExpect(status().isNoContent());
+	}
+
+	@Test
+	void 이미_관리자인_사용자에게_부여하면_기존_토큰_유지() throws Exception {
+		// given - 관리자로 로그인
+		User user = userRepository.save(User.builder()
+			.username("JIN HO")
+			.password(passwordEncoder.encode("12341234"))
+			.nickname("Mentos")
+			.role(Role.ADMIN)
+			.build());
+
+		String loginBody = mockMvc.perform(post("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(LoginRequest.builder()
+					.username("JIN HO")
+					.password("12341234")
+					.build())))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		String token = objectMapper.readTree(loginBody).get("token").asText();
+
+		// when - 이미 관리자인 사용자에게 다시 부여 (변경 없음)
+		mockMvc.perform(patch("/admin/users/" + user.getId() + "/roles")
+				.with(user("admin").roles(Role.ADMIN.name())))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.roles[0].role").value("ADMIN"));
+
+		// then - 권한 epoch 가 그대로이므로 기존 토큰 사용 가능
+		mockMvc.perform(post("/token/revoke")
+				.header("Authorization", "Bearer " + token))
+			.andExpect(status().isNoContent());
+	}
+
 	@Test
 	void 권한이_부족한_경우_접근_제한() throws Exception {
 		// given - 일반 사용자 계정 저장
@@ -259,6 +495,43 @@ public class UserControllerTest {
 			.andExpect(jsonPath("$.error.message").value("유효하지 않은 인증 토큰입니다."));
 	}
 
+	@Test
+	void 공개_경로는_유효하지_않은_토큰이_있어도_처리() throws Exception {
+		// 공개 경로에서는 토큰을 검증하지 않으므로 401 이 아닌 정상 응답
+		mockMvc.perform(get("/availability")
+				.param("username", "JIN HO")
+				.header("Authorization", "Bearer invalid.jwt.token"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.usernameAvailable").value(true));
+	}
+
+	@Test
+	void 로그인_처리_시간과_토큰_인증_결과를_메트릭으로_기록() throws Exception {
+		// given - 컨텍스트를 공유하는 다른 테스트의 기록과 구분하기 위해 이전 값 저장
+		long loginFailures = meterRegistry.timer("user.operation", "operation", "login", "outcome", "failure").count();
+		double invalidTokens = meterRegistry.counter("jwt.authentication", "outcome", "invalid").count();
+
+		LoginRequest request = LoginRequest.builder()
+			.username("NOBODY")
+			.password("12341234")
+			.build();
+
+		// when
+		mockMvc.perform(post("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/admin/users")
+				.header("Authorization", "Bearer invalid.jwt.token"))
+			.andExpect(status().isUnauthorized());
+
+		// then
+		assertThat(meterRegistry.timer("user.operation", "operation", "login", "outcome", "failure").count())
+			.isEqualTo(loginFailures + 1);
+		assertThat(meterRegistry.counter("jwt.authentication", "outcome", "invalid").count())
+			.isEqualTo(invalidTokens + 1);
+	}
+
 
 
 